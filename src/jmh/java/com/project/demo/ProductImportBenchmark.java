@@ -0,0 +1,119 @@
+package com.project.demo;
+
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.product.Product;
+import com.project.demo.logic.entity.product.ProductImportResult;
+import com.project.demo.logic.entity.product.ProductImportService;
+import com.project.demo.logic.entity.product.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Time to load the same rows through the import endpoint's service and through one repository save per row,
+// the way a client looping over POST /products/category/{id} would; divide rows by the score for rows/s.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductImportBenchmark {
+    @Param({"10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ProductImportService productImportService;
+    private ProductRepository productRepository;
+    private JdbcTemplate jdbcTemplate;
+    private Category category;
+
+    private byte[] json;
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:import;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "security.jwt.secret-key=3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b",
+                        "security.jwt.expiration-time=3600000",
+                        "security.password.bcrypt.strength=4",
+                        "logging.level.root=WARN")
+                .run();
+
+        productImportService = context.getBean(ProductImportService.class);
+        productRepository = context.getBean(ProductRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        category = new Category();
+        category.setNombre("Importados");
+        category = context.getBean(CategoryRepository.class).save(category);
+
+        StringBuilder jsonRows = new StringBuilder("[");
+        StringBuilder csvRows = new StringBuilder("categoryId,nombre,descripcion,precio,stock\n");
+        for (int i = 1; i <= rows; i++) {
+            jsonRows.append(i > 1 ? "," : "")
+                    .append("{\"categoryId\":").append(category.getId())
+                    .append(",\"nombre\":\"Producto ").append(i)
+                    .append("\",\"descripcion\":\"Producto importado ").append(i)
+                    .append("\",\"precio\":").append(1000 + i % 500)
+                    .append(",\"stock\":").append(i % 100).append('}');
+            csvRows.append(category.getId()).append(",Producto ").append(i).append(",Producto importado ").append(i)
+                    .append(',').append(1000 + i % 500).append(',').append(i % 100).append('\n');
+        }
+        json = jsonRows.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        csv = csvRows.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void deleteProducts() {
+        jdbcTemplate.update("DELETE FROM product");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductImportResult importJson() throws IOException {
+        return productImportService.importJson(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public ProductImportResult importCsv() throws IOException {
+        return productImportService.importCsv(new StringReader(csv));
+    }
+
+    @Benchmark
+    public long saveEachRow() {
+        for (int i = 1; i <= rows; i++) {
+            Product product = new Product();
+            product.setNombre("Producto " + i);
+            product.setDescripcion("Producto importado " + i);
+            product.setPrecio(1000 + i % 500);
+            product.setStock(i % 100);
+            product.setCategory(category);
+            productRepository.save(product);
+        }
+        return rows;
+    }
+}
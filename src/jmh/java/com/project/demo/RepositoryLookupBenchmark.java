@@ -0,0 +1,122 @@
+package com.project.demo;
+
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.product.Product;
+import com.project.demo.logic.entity.product.ProductRepository;
+import com.project.demo.logic.entity.product.ProductSummary;
+import com.project.demo.logic.entity.rol.Role;
+import com.project.demo.logic.entity.rol.RoleEnum;
+import com.project.demo.logic.entity.rol.RoleRepository;
+import com.project.demo.logic.entity.user.User;
+import com.project.demo.logic.entity.user.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Repository calls through the real Spring Data/Hibernate stack against embedded H2, so the score is
+// framework plus query overhead without network; run against MySQL by overriding spring.datasource.* if needed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryLookupBenchmark {
+    @Param({"100000"})
+    private int products;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private CategoryRepository categoryRepository;
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+
+    private long firstProductId;
+    private long firstCategoryId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "security.jwt.secret-key=3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b",
+                        "security.jwt.expiration-time=3600000",
+                        "security.password.bcrypt.strength=4",
+                        "logging.level.root=WARN")
+                .run();
+
+        productRepository = context.getBean(ProductRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        roleRepository = context.getBean(RoleRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("INSERT INTO category (nombre, descripcion, created_at, updated_at) "
+                + "SELECT 'Categoria ' || X, 'Descripcion', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 100)");
+        firstCategoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM category", Long.class);
+        jdbcTemplate.execute("INSERT INTO product (nombre, descripcion, precio, stock, category_id, created_at, updated_at, version) "
+                + "SELECT 'Producto ' || X, 'Descripcion del producto ' || X, MOD(X, 50000), MOD(X, 100), "
+                + firstCategoryId + " + MOD(X, 100), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, " + products + ")");
+        firstProductId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM product", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Product> productById() {
+        return productRepository.findById(randomProductId());
+    }
+
+    // Served from the Caffeine catalog cache once warm.
+    @Benchmark
+    public Optional<Product> productByIdCached() {
+        return productRepository.findCachedById(randomProductId());
+    }
+
+    @Benchmark
+    public Page<ProductSummary> productSummariesByCategory() {
+        long categoryId = firstCategoryId + ThreadLocalRandom.current().nextInt(100);
+        return productRepository.findSummariesByCategoryId(categoryId, PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public Optional<Category> categoryById() {
+        return categoryRepository.findById(firstCategoryId + ThreadLocalRandom.current().nextInt(100));
+    }
+
+    @Benchmark
+    public Optional<User> userByEmail() {
+        return userRepository.findByEmail("super.admin@gmail.com");
+    }
+
+    @Benchmark
+    public Optional<Role> roleByName() {
+        return roleRepository.findByName(RoleEnum.USER);
+    }
+
+    private long randomProductId() {
+        return firstProductId + ThreadLocalRandom.current().nextInt(products);
+    }
+}
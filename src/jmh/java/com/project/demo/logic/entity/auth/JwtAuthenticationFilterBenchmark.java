@@ -0,0 +1,72 @@
+package com.project.demo.logic.entity.auth;
+
+import com.project.demo.logic.entity.rol.Role;
+import com.project.demo.logic.entity.rol.RoleEnum;
+import com.project.demo.logic.entity.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// Filter cost per authenticated request; with the token cache off every call verifies the signature
+// and resolves the user (an in-memory lookup here, so the database is not part of the score).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+    @Param({"true", "false"})
+    private boolean tokenCache;
+
+    @Param({"false", "true"})
+    private boolean statelessPrincipal;
+
+    private final FilterChain chain = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        Role role = new Role();
+        role.setName(RoleEnum.USER);
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("super.admin@gmail.com");
+        user.setRole(role);
+
+        JwtService jwtService = new JwtService(JwtServiceBenchmark.SECRET_KEY, 3600000, statelessPrincipal, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(
+                jwtService,
+                username -> user,
+                new TokenCache(tokenCache ? 10000 : 0, new SimpleMeterRegistry()),
+                new TokenRevocationRegistry(3600000),
+                (request, response, handler, exception) -> null
+        );
+        authorization = "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.addHeader("Authorization", authorization);
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
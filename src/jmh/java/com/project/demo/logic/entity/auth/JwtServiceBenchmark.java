@@ -0,0 +1,71 @@
+package com.project.demo.logic.entity.auth;
+
+import com.project.demo.logic.entity.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+    static final String SECRET_KEY = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, 3600000, false, new SimpleMeterRegistry());
+        user = new User();
+        user.setEmail("super.admin@gmail.com");
+        token = jwtService.generateToken(user);
+    }
+
+    // Per-request verification as it was done before the single-parse API:
+    // key and parser rebuilt on every call and the token parsed three times.
+    @Benchmark
+    public boolean verifyRebuildingParserPerCall() {
+        String username = legacyClaims().getSubject();
+        boolean valid = legacyClaims().getSubject().equals(username);
+        return valid && !legacyClaims().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean verifyWithParsedToken() {
+        ParsedToken parsed = jwtService.parseToken(token);
+        return parsed.getSubject() != null && jwtService.isTokenValid(parsed, user);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts
+                .parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.demo.logic.entity.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// Full-table export of 1M products into a discarding stream; divide the row count by the score for rows/s.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExportServiceBenchmark {
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"NDJSON", "CSV"})
+    private ExportFormat format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private SingleConnectionDataSource dataSource;
+    private ExportService exportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:export;MODE=MySQL;NON_KEYWORDS=USER", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE category (id BIGINT PRIMARY KEY, nombre VARCHAR(255), descripcion VARCHAR(255), "
+                + "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, nombre VARCHAR(255), descripcion VARCHAR(255), "
+                + "precio INT, stock INT, category_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("INSERT INTO category SELECT X, 'Categoria ' || X, 'Descripcion, con coma', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 100)");
+        jdbcTemplate.execute("INSERT INTO product SELECT X, 'Producto ' || X, 'Descripción del producto ' || X, "
+                + "MOD(X, 50000), MOD(X, 100), MOD(X, 100) + 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, " + rows + ")");
+
+        exportService = new ExportService(jdbcTemplate, new ObjectMapper(), new SimpleMeterRegistry(), 1000, 1800000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public long exportProducts() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        exportService.write(ExportDataset.PRODUCTS, format, gzip, output);
+        return output.bytes;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.demo.logic.entity.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.product.Product;
+import com.project.demo.logic.entity.product.ProductSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Envelope plus Jackson for one listing page, as the controllers answer it; entities against the summary projection.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlobalResponseHandlerBenchmark {
+    @Param({"10", "100"})
+    private int pageSize;
+
+    // Mirrors the Boot defaults the application's ObjectMapper is built with.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final GlobalResponseHandler handler = new GlobalResponseHandler();
+
+    private List<Product> products;
+    private List<ProductSummary> summaries;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        Category category = new Category();
+        category.setId(1L);
+        category.setNombre("Categoria 1");
+        category.setDescripcion("Descripcion de la categoria");
+
+        Date now = new Date();
+        products = new ArrayList<>();
+        summaries = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setNombre("Producto " + id);
+            product.setDescripcion("Descripción del producto " + id);
+            product.setPrecio((int) (1000 + id));
+            product.setStock((int) (id % 100));
+            product.setCategory(category);
+            product.setVersion(0L);
+            product.setCreatedAt(now);
+            product.setUpdatedAt(now);
+            products.add(product);
+
+            summaries.add(new ProductSummary(id, product.getNombre(), product.getDescripcion(), product.getPrecio(),
+                    product.getStock(), now, now, category.getId(), category.getNombre()));
+        }
+
+        request = new MockHttpServletRequest("GET", "/products");
+        request.setServerName("localhost");
+    }
+
+    @Benchmark
+    public byte[] productPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleResponse("Products retrieved", products, HttpStatus.OK, meta()).getBody());
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleResponse("Products retrieved", summaries, HttpStatus.OK, meta()).getBody());
+    }
+
+    @Benchmark
+    public byte[] singleProduct() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleResponse("Product retrieved", products.get(0), HttpStatus.OK, request).getBody());
+    }
+
+    private Meta meta() {
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setTotalPages(100);
+        meta.setTotalElements(100L * pageSize);
+        meta.setPageNumber(1);
+        meta.setPageSize(pageSize);
+        return meta;
+    }
+}
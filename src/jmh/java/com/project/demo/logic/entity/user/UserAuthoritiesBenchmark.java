@@ -0,0 +1,45 @@
+package com.project.demo.logic.entity.user;
+
+import com.project.demo.logic.entity.auth.JwtPrincipal;
+import com.project.demo.logic.entity.rol.Role;
+import com.project.demo.logic.entity.rol.RoleEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+// Spring Security asks for authorities on every @PreAuthorize check; compare the entity with the token principal.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserAuthoritiesBenchmark {
+    private User user;
+    private JwtPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        Role role = new Role();
+        role.setName(RoleEnum.SUPER_ADMIN);
+        user = new User();
+        user.setEmail("super.admin@gmail.com");
+        user.setRole(role);
+        principal = new JwtPrincipal(1L, "super.admin@gmail.com", RoleEnum.SUPER_ADMIN);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> principalAuthorities() {
+        return principal.getAuthorities();
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.demo.logic.entity.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserSearchIndexBenchmark {
+    private static final String[] NAMES = {
+            "Alejandro", "María", "José", "Lucía", "Andrés", "Sofía", "Jorge", "Valeria", "Ramón", "Camila",
+            "Esteban", "Daniela", "Ignacio", "Paula", "Mauricio", "Gabriela", "Sebastián", "Natalia", "Óscar", "Irene"
+    };
+    private static final String[] LASTNAMES = {
+            "Rodríguez", "Jiménez", "Mora", "Vargas", "Solano", "Chaves", "Quesada", "Castro", "Núñez", "Araya",
+            "Fernández", "Alfaro", "Brenes", "Montero", "Zúñiga", "Ulate", "Salas", "Villalobos", "Méndez", "Rojas"
+    };
+
+    @Param({"1000000"})
+    private int users;
+
+    private UserSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new UserSearchIndex(null);
+
+        Random random = new Random(42);
+        for (long id = 1; id <= users; id++) {
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String lastname = LASTNAMES[random.nextInt(LASTNAMES.length)];
+            index.put(id, name, lastname, name.toLowerCase() + "." + lastname.toLowerCase() + id + "@correo.com");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.destroy();
+    }
+
+    // Selective: a digit run from the email only a few hundred users share.
+    @Benchmark
+    public UserSearchIndex.Hits selectiveSubstring() {
+        return index.search("77712", 0, 20);
+    }
+
+    // Broad: an accent-folded lastname fragment matching about a tenth of the table.
+    @Benchmark
+    public UserSearchIndex.Hits broadSubstring() {
+        return index.search("zuñi", 0, 20);
+    }
+}
@@ -0,0 +1,177 @@
+package com.project.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop driver: every connection is a virtual thread that sends its next request as soon as the last
+// one answers, so throughput and tail latency reflect how the server copes with that many concurrent clients.
+// 5k connections need a file-descriptor limit above 5k on both ends (ulimit -n).
+public final class LoadTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private LoadTest() {
+    }
+
+    static final class Stats {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final AtomicLong shed = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, URI> targets = targets(System.getProperty("loadtest.targets", "local=http://localhost:8080"));
+        String scenario = System.getProperty("loadtest.scenario", "single");
+        int connections = Integer.getInteger("loadtest.connections", 5000);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10));
+        String path = System.getProperty("loadtest.path", "/products?size=10");
+        String email = System.getProperty("loadtest.email", "super.admin@gmail.com");
+        String password = System.getProperty("loadtest.password", "superadmin123");
+        int users = Integer.getInteger("loadtest.users", 100_000);
+
+        System.out.printf("%s scenario, %d connections, %ds warm-up, %ds measured%n%n",
+                scenario, connections, warmup.toSeconds(), duration.toSeconds());
+        System.out.printf("%-12s %-16s %10s %10s %9s %9s %9s %9s %8s %8s%n",
+                "target", "operation", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "503s", "errors");
+
+        for (Map.Entry<String, URI> target : targets.entrySet()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            String token = login(client, target.getValue(), email, password);
+
+            List<Operation> operations = "mixed".equals(scenario)
+                    ? MixedScenario.operations(client, target.getValue(), token, users)
+                    : List.of(new Operation("GET " + path, 1, random -> MixedScenario.get(target.getValue(), path, token)));
+
+            run(client, operations, connections, warmup);
+            long start = System.nanoTime();
+            Map<Operation, Stats> stats = run(client, operations, connections, duration);
+            print(target.getKey(), stats, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    static Map<Operation, Stats> run(HttpClient client, List<Operation> operations, int connections, Duration duration)
+            throws InterruptedException {
+        Map<Operation, Stats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation, new Stats()));
+        int[] cumulativeWeights = new int[operations.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            totalWeight += operations.get(i).weight();
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        int weights = totalWeight;
+
+        try (ExecutorService connectionsExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                connectionsExecutor.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = operations.get(pick(cumulativeWeights, random.nextInt(weights)));
+                        Stats operationStats = stats.get(operation);
+                        long sent = System.nanoTime();
+                        try {
+                            int status = client.send(operation.request().apply(random), HttpResponse.BodyHandlers.discarding())
+                                    .statusCode();
+                            if (status == 503) {
+                                operationStats.shed.incrementAndGet();
+                            } else if (status >= 400) {
+                                operationStats.errors.incrementAndGet();
+                            } else {
+                                operationStats.latencies.record((System.nanoTime() - sent) / 1000);
+                            }
+                        } catch (IOException exception) {
+                            operationStats.errors.incrementAndGet();
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+
+        return stats;
+    }
+
+    private static int pick(int[] cumulativeWeights, int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    static String login(HttpClient client, URI base, String email, String password)
+            throws IOException, InterruptedException {
+        String body = MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(base.resolve("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login against " + base + " answered " + response.statusCode());
+        }
+        return MAPPER.readTree(response.body()).path("token").asText();
+    }
+
+    // One row per operation, then the whole mix when there is more than one.
+    static void print(String target, Map<Operation, Stats> stats, double seconds) {
+        List<Stats> all = new ArrayList<>(stats.values());
+        stats.forEach((operation, operationStats) -> print(target, operation.name(), List.of(operationStats), seconds));
+        if (stats.size() > 1) {
+            print(target, "all", all, seconds);
+        }
+    }
+
+    private static void print(String target, String operation, List<Stats> stats, double seconds) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        long shed = 0;
+        long errors = 0;
+        for (Stats operationStats : stats) {
+            latencies.add(operationStats.latencies);
+            shed += operationStats.shed.get();
+            errors += operationStats.errors.get();
+        }
+
+        long requests = latencies.count();
+        System.out.printf("%-12s %-16s %10d %10.0f %9.1f %9.1f %9.1f %9.1f %8d %8d%n",
+                target, operation, requests, requests / seconds,
+                latencies.percentile(50) / 1000.0, latencies.percentile(90) / 1000.0,
+                latencies.percentile(99) / 1000.0, latencies.percentile(99.9) / 1000.0,
+                shed, errors);
+    }
+
+    // name=url pairs separated by commas; a bare url is named after its position.
+    static Map<String, URI> targets(String value) {
+        Map<String, URI> targets = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf('=');
+            String name = separator > 0 ? trimmed.substring(0, separator) : "target-" + (targets.size() + 1);
+            targets.put(name, URI.create(separator > 0 ? trimmed.substring(separator + 1) : trimmed));
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Read-heavy catalog traffic with a trickle of logins and admin stock writes, over ids sampled from the target
+// so it works on any seeded volume. Users come from SeedData and share its password.
+final class MixedScenario {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int SAMPLE_PAGES = 20;
+
+    private MixedScenario() {
+    }
+
+    static List<Operation> operations(HttpClient client, URI base, String adminToken, int users)
+            throws IOException, InterruptedException {
+        Sample sample = sample(client, base, adminToken);
+        long[] productIds = sample.productIds();
+        long[] categoryIds = sample.categoryIds();
+        if (productIds.length == 0) {
+            throw new IllegalStateException("No products at " + base + "; run ./gradlew seedData first");
+        }
+
+        return List.of(
+                new Operation("login", 5, random -> HttpRequest.newBuilder(base.resolve("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .timeout(TIMEOUT)
+                        .POST(HttpRequest.BodyPublishers.ofString(json(Map.of(
+                                "email", SeedData.email(1 + random.nextInt(users)),
+                                "password", SeedData.USER_PASSWORD))))
+                        .build()),
+                new Operation("list products", 35, random -> get(base,
+                        "/products?size=20&page=" + (1 + random.nextInt(50)), adminToken)),
+                new Operation("product by id", 30, random -> get(base,
+                        "/products/" + productIds[random.nextInt(productIds.length)], adminToken)),
+                new Operation("category browse", 20, random -> get(base,
+                        "/categories/" + categoryIds[random.nextInt(categoryIds.length)] + "/products?size=20", adminToken)),
+                new Operation("admin write", 10, random -> HttpRequest.newBuilder(base.resolve(
+                                "/products/" + productIds[random.nextInt(productIds.length)] + "/stock"))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header("Content-Type", "application/json")
+                        .timeout(TIMEOUT)
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"operation\": \"INCREMENT\", \"quantity\": 1}"))
+                        .build())
+        );
+    }
+
+    static HttpRequest get(URI base, String path, String token) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private record Sample(long[] productIds, long[] categoryIds) {
+    }
+
+    // Walks keyset pages of product summaries, which carry the category id, so sampling stays cheap on a million rows.
+    private static Sample sample(HttpClient client, URI base, String token) throws IOException, InterruptedException {
+        List<Long> productIds = new ArrayList<>();
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        String cursor = "";
+        for (int page = 0; page < SAMPLE_PAGES && cursor != null; page++) {
+            JsonNode body = fetch(client, get(base, "/products?size=1000&after=" + cursor, token));
+            for (JsonNode row : body.path("data")) {
+                productIds.add(row.path("id").asLong());
+                categoryIds.add(row.path("category").path("id").asLong());
+            }
+            JsonNode next = body.path("meta").path("nextCursor");
+            cursor = next.isTextual() ? next.asText() : null;
+        }
+        return new Sample(productIds.stream().mapToLong(Long::longValue).toArray(),
+                categoryIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private static JsonNode fetch(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " answered " + response.statusCode());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private static String json(Map<String, String> values) {
+        try {
+            return MAPPER.writeValueAsString(values);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.demo.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+// One kind of request in a scenario; weight is its share of the mix.
+record Operation(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+}
@@ -0,0 +1,171 @@
+package com.project.demo.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Bulk-loads synthetic categories, products and users into a database whose schema the application already
+// created (start it once with ddl-auto). Rows carry an "LT-" prefix and re-runs only top up what is missing,
+// so the same volumes can be reproduced without wiping the seeded admin accounts.
+public final class SeedData {
+    static final String PREFIX = "LT-";
+    static final String USER_PASSWORD = "loadtest123";
+
+    private static final int BATCH_SIZE = 5000;
+
+    private SeedData() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = jdbcUrl(System.getProperty("seed.url", "jdbc:mysql://localhost:3306/demo"));
+        int categories = Integer.getInteger("seed.categories", 10_000);
+        int products = Integer.getInteger("seed.products", 1_000_000);
+        int users = Integer.getInteger("seed.users", 100_000);
+
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("seed.username", "root"), System.getProperty("seed.password", ""))) {
+            connection.setAutoCommit(false);
+
+            long start = System.nanoTime();
+            seedCategories(connection, categories);
+            seedProducts(connection, products, categoryIds(connection));
+            seedUsers(connection, users);
+            System.out.printf("Seeded in %.1fs%n", (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    // Connector/J only collapses a batch into multi-row INSERTs with rewriteBatchedStatements.
+    static String jdbcUrl(String url) {
+        if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements")) {
+            return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+        return url;
+    }
+
+    private static void seedCategories(Connection connection, int target) throws SQLException {
+        int existing = count(connection, "SELECT COUNT(*) FROM category WHERE nombre LIKE '" + PREFIX + "%'");
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        insert(connection, "categories", existing, target,
+                "INSERT INTO category (nombre, descripcion, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                (statement, n) -> {
+                    statement.setString(1, PREFIX + "Categoria " + n);
+                    statement.setString(2, "Categoria sintetica " + n);
+                    statement.setTimestamp(3, now);
+                    statement.setTimestamp(4, now);
+                });
+    }
+
+    private static void seedProducts(Connection connection, int target, long[] categoryIds) throws SQLException {
+        if (categoryIds.length == 0) {
+            return;
+        }
+        int existing = count(connection, "SELECT COUNT(*) FROM product WHERE nombre LIKE '" + PREFIX + "%'");
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        SplittableRandom random = new SplittableRandom(42);
+
+        insert(connection, "products", existing, target,
+                "INSERT INTO product (nombre, descripcion, precio, stock, category_id, created_at, updated_at, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+                (statement, n) -> {
+                    statement.setString(1, PREFIX + "Producto " + n);
+                    statement.setString(2, "Producto sintetico " + n + " para pruebas de carga");
+                    statement.setInt(3, 100 + random.nextInt(100_000));
+                    statement.setInt(4, random.nextInt(500));
+                    statement.setLong(5, categoryIds[n % categoryIds.length]);
+                    statement.setTimestamp(6, now);
+                    statement.setTimestamp(7, now);
+                });
+    }
+
+    private static void seedUsers(Connection connection, int target) throws SQLException {
+        int existing = count(connection, "SELECT COUNT(*) FROM user WHERE email LIKE '" + PREFIX.toLowerCase() + "%'");
+        Long roleId = roleId(connection);
+        if (roleId == null) {
+            throw new IllegalStateException("Role USER not found; start the application once so the seeders run");
+        }
+        // One hash for every account: BCrypt per row would dominate the run, and logins only need a known password.
+        String password = new BCryptPasswordEncoder(10).encode(USER_PASSWORD);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        insert(connection, "users", existing, target,
+                "INSERT INTO user (name, lastname, email, password, role_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                (statement, n) -> {
+                    statement.setString(1, "Usuario" + n);
+                    statement.setString(2, "Carga" + n);
+                    statement.setString(3, email(n));
+                    statement.setString(4, password);
+                    statement.setLong(5, roleId);
+                    statement.setTimestamp(6, now);
+                    statement.setTimestamp(7, now);
+                });
+    }
+
+    static String email(int n) {
+        return PREFIX.toLowerCase() + "user" + n + "@loadtest.local";
+    }
+
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int n) throws SQLException;
+    }
+
+    private static void insert(Connection connection, String label, int existing, int target, String sql, RowBinder binder)
+            throws SQLException {
+        if (existing >= target) {
+            System.out.printf("%-10s %,d already present%n", label, existing);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int n = existing + 1; n <= target; n++) {
+                binder.bind(statement, n);
+                statement.addBatch();
+                if ((n - existing) % BATCH_SIZE == 0 || n == target) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-10s %,d inserted in %.1fs (%,.0f rows/s)%n", label, target - existing, seconds,
+                (target - existing) / seconds);
+    }
+
+    private static long[] categoryIds(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT id FROM category WHERE nombre LIKE '" + PREFIX + "%' ORDER BY id")) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static Long roleId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id FROM rol WHERE name = 'USER'")) {
+            return resultSet.next() ? resultSet.getLong(1) : null;
+        }
+    }
+
+    private static int count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
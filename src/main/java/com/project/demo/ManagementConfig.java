@@ -0,0 +1,10 @@
+package com.project.demo;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// Defaults for the actuator endpoints; application.properties still takes precedence.
+@Configuration
+@PropertySource("classpath:management.properties")
+public class ManagementConfig {
+}
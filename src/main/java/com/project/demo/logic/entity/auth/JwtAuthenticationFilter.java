@@ -1,5 +1,6 @@
 package com.project.demo.logic.entity.auth;
 
+import com.project.demo.logic.entity.rol.RoleEnum;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,14 +24,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenCache tokenCache;
+    private final TokenRevocationRegistry revocationRegistry;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
             UserDetailsService userDetailsService,
+            TokenCache tokenCache,
+            TokenRevocationRegistry revocationRegistry,
             HandlerExceptionResolver handlerExceptionResolver
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenCache = tokenCache;
+        this.revocationRegistry = revocationRegistry;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -49,14 +56,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-            if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            if (authentication == null) {
+                UserDetails userDetails = tokenCache.get(jwt);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails == null) {
+                    userDetails = loadVerifiedUser(jwt);
+                }
+
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -73,4 +83,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
+
+    private UserDetails loadVerifiedUser(String jwt) {
+        final ParsedToken token = jwtService.parseToken(jwt);
+        final String userEmail = token.getSubject();
+
+        if (userEmail == null) {
+            return null;
+        }
+
+        UserDetails userDetails = statelessPrincipal(token);
+
+        if (userDetails == null) {
+            userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        }
+
+        if (!jwtService.isTokenValid(token, userDetails)) {
+            return null;
+        }
+
+        tokenCache.put(jwt, userDetails, token.getExpiration());
+        return userDetails;
+    }
+
+    private UserDetails statelessPrincipal(ParsedToken token) {
+        if (!jwtService.isStatelessPrincipalEnabled()) {
+            return null;
+        }
+
+        Long userId = token.getClaim(JwtService.USER_ID_CLAIM, Long.class);
+        Long version = token.getClaim(JwtService.VERSION_CLAIM, Long.class);
+        String role = token.getClaim(JwtService.ROLE_CLAIM, String.class);
+
+        // Tokens without the claims, or issued before a revocation, go through the database.
+        if (role == null || !revocationRegistry.isCurrent(userId, version)) {
+            return null;
+        }
+
+        return new JwtPrincipal(userId, token.getSubject(), RoleEnum.valueOf(role));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.project.demo.logic.entity.auth;
+
+import com.project.demo.logic.entity.rol.RoleEnum;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+public class JwtPrincipal implements UserDetails {
+    private final Long id;
+    private final String email;
+    private final RoleEnum role;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(Long id, String email, RoleEnum role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.toString()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RoleEnum getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
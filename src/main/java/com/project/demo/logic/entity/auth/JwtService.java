@@ -1,6 +1,8 @@
 package com.project.demo.logic.entity.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -9,19 +11,64 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import com.project.demo.logic.entity.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @Service
 public class JwtService {
-    @Value("${security.jwt.secret-key}")
-    private String secretKey;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String VERSION_CLAIM = "ver";
 
-    @Value("${security.jwt.expiration-time}")
-    private long jwtExpiration;
+    private static final Logger log = LoggerFactory.getLogger(JwtService.class);
+
+    private final long jwtExpiration;
+
+    // Off by default and single-instance only: revocations live in this JVM's TokenRevocationRegistry,
+    // so another instance would keep trusting a revoked token's claims until it expires.
+    private final boolean statelessPrincipal;
+
+    private final Key signInKey;
+
+    private final JwtParser jwtParser;
+
+    private final Timer validTokens;
+
+    private final Timer rejectedTokens;
+
+    public JwtService(
+            @Value("${security.jwt.secret-key}") String secretKey,
+            @Value("${security.jwt.expiration-time}") long jwtExpiration,
+            @Value("${security.jwt.stateless-principal:false}") boolean statelessPrincipal,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtExpiration = jwtExpiration;
+        this.statelessPrincipal = statelessPrincipal;
+        if (statelessPrincipal) {
+            log.warn("security.jwt.stateless-principal is enabled; token revocations are only seen by this instance, "
+                    + "so do not run more than one");
+        }
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.validTokens = verificationTimer(meterRegistry, "valid");
+        this.rejectedTokens = verificationTimer(meterRegistry, "rejected");
+    }
+
+    public ParsedToken parseToken(String token) {
+        return new ParsedToken(extractAllClaims(token));
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -33,7 +80,15 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+
+        if (statelessPrincipal && userDetails instanceof User user && user.getRole() != null) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, user.getRole().getName().name());
+            claims.put(VERSION_CLAIM, System.currentTimeMillis());
+        }
+
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -44,6 +99,10 @@ public class JwtService {
         return jwtExpiration;
     }
 
+    public boolean isStatelessPrincipalEnabled() {
+        return statelessPrincipal;
+    }
+
     private String buildToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails,
@@ -55,34 +114,42 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(ParsedToken token, UserDetails userDetails) {
+        return token.getSubject().equals(userDetails.getUsername()) && !token.isExpired();
     }
 
-    private Date extractExpiration(String token) {
+    public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    // Signature check plus claim decoding; cache hits in TokenCache never get here.
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        long start = System.nanoTime();
+        try {
+            Claims claims = jwtParser
+                    .parseClaimsJws(token)
+                    .getBody();
+            validTokens.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
+        } catch (JwtException | IllegalArgumentException exception) {
+            rejectedTokens.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw exception;
+        }
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.verification")
+                .description("Time spent verifying and decoding JWTs")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,34 @@
+package com.project.demo.logic.entity.auth;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+public class ParsedToken {
+    private final Claims claims;
+
+    public ParsedToken(Claims claims) {
+        this.claims = claims;
+    }
+
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    public <T> T getClaim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    public boolean isExpired() {
+        Date expiration = getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+}
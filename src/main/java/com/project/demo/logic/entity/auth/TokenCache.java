@@ -0,0 +1,99 @@
+package com.project.demo.logic.entity.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TokenCache {
+    private final Cache<String, CachedToken> tokens;
+
+    private final int maxSize;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public TokenCache(@Value("${security.jwt.cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        // Size-bounded with amortized eviction, and every entry expires with its token.
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new Expiry<String, CachedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, CachedToken cached, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, cached.expiresAt() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, CachedToken cached, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, cached, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, CachedToken cached, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.hits = cacheGets(meterRegistry, "hit");
+        this.misses = cacheGets(meterRegistry, "miss");
+        Gauge.builder("security.jwt.cache.size", tokens, Cache::estimatedSize)
+                .description("Verified JWTs kept in memory")
+                .register(meterRegistry);
+    }
+
+    public UserDetails get(String token) {
+        CachedToken cached = tokens.getIfPresent(token);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return cached.userDetails();
+    }
+
+    public void put(String token, UserDetails userDetails, Date expiration) {
+        if (maxSize <= 0 || expiration == null) {
+            return;
+        }
+
+        tokens.put(token, new CachedToken(userDetails, expiration.getTime()));
+    }
+
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+
+        tokens.asMap().values().removeIf(cached -> username.equals(cached.userDetails().getUsername()));
+    }
+
+    public void clear() {
+        tokens.invalidateAll();
+    }
+
+    public long size() {
+        return tokens.estimatedSize();
+    }
+
+    private static Counter cacheGets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("security.jwt.cache.gets")
+                .tag("result", result)
+                .description("Token cache lookups")
+                .register(meterRegistry);
+    }
+
+    private record CachedToken(UserDetails userDetails, long expiresAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.demo.logic.entity.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory only, which is why security.jwt.stateless-principal is opt-in and meant for a single instance:
+// revocations are neither shared with other instances nor kept across restarts.
+@Component
+public class TokenRevocationRegistry {
+    // Revocations are not persisted, so claims issued before this instance started are never trusted.
+    private final long startedAt = System.currentTimeMillis();
+
+    private final ConcurrentHashMap<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    private final long jwtExpiration;
+
+    public TokenRevocationRegistry(@Value("${security.jwt.expiration-time}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    public void revoke(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        revokedAt.merge(userId, now, Math::max);
+        revokedAt.values().removeIf(revoked -> revoked < now - jwtExpiration);
+    }
+
+    public boolean isCurrent(Long userId, Long version) {
+        if (userId == null || version == null || version < startedAt) {
+            return false;
+        }
+
+        Long revoked = revokedAt.get(userId);
+        return revoked == null || version > revoked;
+    }
+}
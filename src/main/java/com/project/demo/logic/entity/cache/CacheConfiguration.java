@@ -0,0 +1,40 @@
+package com.project.demo.logic.entity.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.demo.logic.entity.category.Category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.catalog.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String specification,
+            @Value("${cache.catalog.categories.max-weight:100000}") long categoriesMaxWeight,
+            @Value("${cache.catalog.categories.ttl-seconds:600}") long categoriesTtlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CatalogCache.PRODUCTS);
+        cacheManager.setCacheSpecification(specification);
+        cacheManager.setAllowNullValues(false);
+
+        // A cached category carries its whole product list, so the bound counts rows rather than entries.
+        cacheManager.registerCustomCache(CatalogCache.CATEGORIES, Caffeine.newBuilder()
+                .maximumWeight(categoriesMaxWeight)
+                .weigher((Object key, Object value) -> value instanceof Category category && category.getProducts() != null
+                        ? 1 + category.getProducts().size()
+                        : 1)
+                .expireAfterWrite(Duration.ofSeconds(categoriesTtlSeconds))
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
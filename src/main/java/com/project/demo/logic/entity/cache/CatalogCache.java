@@ -0,0 +1,57 @@
+package com.project.demo.logic.entity.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CatalogCache {
+    public static final String PRODUCTS = "products";
+    public static final String CATEGORIES = "categories";
+
+    private final CacheManager cacheManager;
+    private final ResponseBodyCache responseBodyCache;
+
+    public CatalogCache(CacheManager cacheManager, ResponseBodyCache responseBodyCache) {
+        this.cacheManager = cacheManager;
+        this.responseBodyCache = responseBodyCache;
+    }
+
+    public void evictProduct(Long productId) {
+        evict(PRODUCTS, productId);
+    }
+
+    // Cached categories embed their product list, so any product write evicts its category too.
+    public void evictCategory(Long categoryId) {
+        evict(CATEGORIES, categoryId);
+    }
+
+    public void evictAllProducts() {
+        clear(PRODUCTS);
+    }
+
+    public void evictAllCategories() {
+        clear(CATEGORIES);
+    }
+
+    // Cached payloads can embed any catalog row, so every catalog write drops all of them.
+    public void evictResponses() {
+        responseBodyCache.clear();
+    }
+
+    private void evict(String cacheName, Long key) {
+        responseBodyCache.clear();
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        responseBodyCache.clear();
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
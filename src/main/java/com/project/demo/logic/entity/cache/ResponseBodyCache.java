@@ -0,0 +1,164 @@
+package com.project.demo.logic.entity.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.demo.logic.entity.http.AcceptEncoding;
+import com.project.demo.logic.entity.http.ConditionalRequests;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Keeps serialized (and, above the compression threshold, pre-compressed) bodies of hot reads,
+// so a repeated identical request is answered with a byte copy instead of a query plus Jackson.
+@Component
+public class ResponseBodyCache {
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Payload> payloads;
+    private final int compressionThreshold;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    private record Payload(byte[] identity, byte[] gzip, byte[] deflate, String etag, long lastModified) {
+        int weight() {
+            return identity.length + (gzip != null ? gzip.length : 0) + (deflate != null ? deflate.length : 0);
+        }
+    }
+
+    public ResponseBodyCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${http.response-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${http.response-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${server.compression.min-response-size:2KB}") DataSize compressionThreshold
+    ) {
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = (int) compressionThreshold.toBytes();
+        this.payloads = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Payload payload) -> payload.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.hits = cacheGets(meterRegistry, "hit");
+        this.misses = cacheGets(meterRegistry, "miss");
+        Gauge.builder("http.response.cache.size", payloads, Cache::estimatedSize)
+                .description("Serialized responses kept in memory")
+                .register(meterRegistry);
+    }
+
+    // Only 200 responses are kept; errors, 304s and anything the loader rejects pass straight through.
+    public ResponseEntity<?> serve(HttpServletRequest request, WebRequest webRequest, Supplier<ResponseEntity<?>> loader) {
+        String key = request.getRequestURL() + "?" + request.getQueryString();
+        Payload payload = payloads.getIfPresent(key);
+
+        if (payload != null) {
+            hits.increment();
+            if (payload.etag() != null && ConditionalRequests.notModified(webRequest, payload.etag(), payload.lastModified())) {
+                return null;
+            }
+        } else {
+            misses.increment();
+            long seen = generation.get();
+            ResponseEntity<?> response = loader.get();
+            if (response == null || response.getStatusCode() != HttpStatus.OK) {
+                return response;
+            }
+
+            payload = payload(response.getBody(), webRequest);
+            payloads.put(key, payload);
+            // A write that committed while the loader ran has already cleared the cache; drop what we just added.
+            if (generation.get() != seen) {
+                payloads.invalidate(key);
+            }
+        }
+
+        return respond(payload, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        payloads.invalidateAll();
+    }
+
+    private Payload payload(Object body, WebRequest webRequest) {
+        byte[] identity;
+        try {
+            identity = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize cached response", exception);
+        }
+
+        String etag = null;
+        long lastModified = -1;
+        if (webRequest instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            HttpServletResponse servletResponse = servletRequest.getResponse();
+            etag = servletResponse.getHeader(HttpHeaders.ETAG);
+            String lastModifiedHeader = servletResponse.getHeader(HttpHeaders.LAST_MODIFIED);
+            if (lastModifiedHeader != null) {
+                lastModified = ZonedDateTime.parse(lastModifiedHeader, DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant().toEpochMilli();
+            }
+        }
+
+        if (identity.length < compressionThreshold) {
+            return new Payload(identity, null, null, etag, lastModified);
+        }
+        return new Payload(identity, compress(identity, true), compress(identity, false), etag, lastModified);
+    }
+
+    private static ResponseEntity<byte[]> respond(Payload payload, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (payload.gzip() != null && AcceptEncoding.accepts(acceptEncoding, "gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        if (payload.deflate() != null && AcceptEncoding.accepts(acceptEncoding, "deflate")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "deflate").body(payload.deflate());
+        }
+        return response.body(payload.identity());
+    }
+
+    private static Counter cacheGets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("http.response.cache.gets")
+                .tag("result", result)
+                .description("Response cache lookups")
+                .register(meterRegistry);
+    }
+
+    private static byte[] compress(byte[] identity, boolean gzip) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 4);
+        try (OutputStream output = gzip ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            output.write(identity);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.demo.logic.entity.category;
+
+import com.project.demo.logic.entity.http.BulkOperationResult;
+import com.project.demo.logic.entity.product.ProductRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class CategoryBulkService {
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    public CategoryBulkService(CategoryRepository categoryRepository, ProductRepository productRepository) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+    }
+
+    // Set-based replacement for the orphanRemoval cascade, which loads and deletes every child one by one.
+    @Transactional
+    public BulkOperationResult delete(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        BulkOperationResult result = new BulkOperationResult(distinctIds.size());
+
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, distinctIds.size()));
+            Set<Long> existing = new HashSet<>(categoryRepository.findExistingIds(chunk));
+
+            chunk.stream().filter(id -> !existing.contains(id)).forEach(result::addNotFound);
+            if (!existing.isEmpty()) {
+                productRepository.deleteByCategoryIdIn(existing);
+                categoryRepository.deleteAllByIdInBatch(existing);
+                result.addAffected(existing.size());
+            }
+        }
+
+        return result;
+    }
+}
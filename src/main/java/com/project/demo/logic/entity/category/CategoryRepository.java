@@ -1,8 +1,31 @@
 package com.project.demo.logic.entity.category;
 
+import com.project.demo.logic.entity.cache.CatalogCache;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    @Cacheable(cacheNames = CatalogCache.CATEGORIES, unless = "#result == null")
+    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.products WHERE c.id = :id")
+    Optional<Category> findCachedById(@Param("id") Long id);
+
+    Slice<Category> findAllBy(Pageable pageable);
+
+    @Query("SELECT c.id FROM Category c")
+    List<Long> findAllIds();
+
+    Slice<Category> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
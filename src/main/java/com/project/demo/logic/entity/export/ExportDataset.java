@@ -0,0 +1,30 @@
+package com.project.demo.logic.entity.export;
+
+// Columns are listed here rather than read from the result set, whose label casing varies between databases.
+public enum ExportDataset {
+    PRODUCTS("products",
+            "SELECT p.id, p.nombre, p.descripcion, p.precio, p.stock, p.category_id, c.nombre, p.created_at, p.updated_at "
+                    + "FROM product p JOIN category c ON c.id = p.category_id ORDER BY p.id",
+            "id", "nombre", "descripcion", "precio", "stock", "categoryId", "categoryNombre", "createdAt", "updatedAt"),
+    CATEGORIES("categories",
+            "SELECT c.id, c.nombre, c.descripcion, c.created_at, c.updated_at FROM category c ORDER BY c.id",
+            "id", "nombre", "descripcion", "createdAt", "updatedAt"),
+    USERS("users",
+            "SELECT u.id, u.name, u.lastname, u.email, r.name, u.created_at, u.updated_at "
+                    + "FROM user u JOIN rol r ON r.id = u.role_id ORDER BY u.id",
+            "id", "name", "lastname", "email", "role", "createdAt", "updatedAt");
+
+    private final String name;
+    private final String sql;
+    private final String[] columns;
+
+    ExportDataset(String name, String sql, String... columns) {
+        this.name = name;
+        this.sql = sql;
+        this.columns = columns;
+    }
+
+    public String getName() { return name; }
+    public String getSql() { return sql; }
+    public String[] getColumns() { return columns; }
+}
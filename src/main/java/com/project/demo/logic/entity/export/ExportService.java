@@ -0,0 +1,254 @@
+package com.project.demo.logic.entity.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.demo.logic.entity.http.AcceptEncoding;
+import com.project.demo.logic.entity.http.JdbcStreaming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class ExportService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+    private final long asyncTimeoutMillis;
+
+    public ExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${export.fetch-size:1000}") int fetchSize,
+            @Value("${export.async-timeout-millis:1800000}") long asyncTimeoutMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+        this.asyncTimeoutMillis = asyncTimeoutMillis;
+    }
+
+    public ResponseEntity<StreamingResponseBody> export(ExportDataset dataset, String format, HttpServletRequest request) {
+        Optional<ExportFormat> exportFormat = ExportFormat.from(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // The body streams as an async request; only exports get the long timeout, other async requests keep the default.
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(asyncTimeoutMillis);
+        }
+
+        boolean gzip = AcceptEncoding.accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.get().getContentType()))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(dataset.getName() + "." + exportFormat.get().getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(outputStream -> write(dataset, exportFormat.get(), gzip, outputStream));
+    }
+
+    // Rows go straight from a forward-only cursor to the response, so heap use does not grow with the table.
+    public void write(ExportDataset dataset, ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException {
+        OutputStream target = gzip
+                ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+                : new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        RowWriter writer = format == ExportFormat.CSV
+                ? new CsvRowWriter(target, dataset.getColumns())
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(target, JsonEncoding.UTF8), dataset.getColumns());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicLong rows = new AtomicLong();
+
+        try {
+            jdbcTemplate.query(connection -> prepare(connection, dataset.getSql()), resultSet -> {
+                try {
+                    writer.write(resultSet);
+                    rows.incrementAndGet();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            writer.close();
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        } finally {
+            Counter.builder("export.rows")
+                    .description("Rows written by the export endpoints")
+                    .tag("dataset", dataset.getName())
+                    .register(meterRegistry)
+                    .increment(rows.get());
+            sample.stop(Timer.builder("export.duration")
+                    .description("Time spent streaming an export")
+                    .tag("dataset", dataset.getName())
+                    .tag("format", format.getExtension())
+                    .register(meterRegistry));
+        }
+    }
+
+    private PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(JdbcStreaming.fetchSize(connection, fetchSize));
+        return statement;
+    }
+
+    private abstract static class RowWriter {
+        private final String[] columns;
+        private int[] types;
+
+        RowWriter(String[] columns) {
+            this.columns = columns;
+        }
+
+        void write(ResultSet resultSet) throws SQLException, IOException {
+            if (types == null) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                types = new int[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    types[i] = metaData.getColumnType(i + 1);
+                }
+            }
+            writeRow(resultSet);
+        }
+
+        String[] columns() {
+            return columns;
+        }
+
+        boolean isTimestamp(int column) {
+            return types[column] == Types.TIMESTAMP || types[column] == Types.TIMESTAMP_WITH_TIMEZONE
+                    || types[column] == Types.DATE;
+        }
+
+        boolean isNumber(int column) {
+            return switch (types[column]) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+                        Types.DECIMAL, Types.NUMERIC, Types.REAL, Types.FLOAT, Types.DOUBLE -> true;
+                default -> false;
+            };
+        }
+
+        String text(ResultSet resultSet, int column) throws SQLException {
+            if (isTimestamp(column)) {
+                Timestamp timestamp = resultSet.getTimestamp(column + 1);
+                return timestamp != null ? timestamp.toInstant().toString() : null;
+            }
+            return resultSet.getString(column + 1);
+        }
+
+        abstract void writeRow(ResultSet resultSet) throws SQLException, IOException;
+
+        abstract void close() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter extends RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(JsonGenerator generator, String[] columns) {
+            super(columns);
+            this.generator = generator;
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns().length; i++) {
+                generator.writeFieldName(columns()[i]);
+                String value = text(resultSet, i);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (isNumber(i)) {
+                    generator.writeNumber(value);
+                } else {
+                    generator.writeString(value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter extends RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream outputStream, String[] columns) throws IOException {
+            super(columns);
+            this.writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            this.writer.write(String.join(",", columns));
+            this.writer.write('\n');
+        }
+
+        @Override
+        void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            for (int i = 0; i < columns().length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = text(resultSet, i);
+                if (value != null) {
+                    writer.write(escape(value));
+                }
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        void close() throws IOException {
+            writer.close();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
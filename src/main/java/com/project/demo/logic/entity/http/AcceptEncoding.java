@@ -0,0 +1,42 @@
+package com.project.demo.logic.entity.http;
+
+import java.util.Locale;
+
+public final class AcceptEncoding {
+    private AcceptEncoding() {
+    }
+
+    // True when the header lists the coding, or *, with a q-value above zero; an explicit entry wins over *.
+    public static boolean accepts(String header, String coding) {
+        if (header == null) {
+            return false;
+        }
+
+        Double wildcard = null;
+        for (String entry : header.split(",")) {
+            String[] parts = entry.trim().split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(coding)) {
+                return quality(parts) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.demo.logic.entity.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkOperationResult {
+    private final int requested;
+    private int affected;
+    private final List<Long> notFound = new ArrayList<>();
+
+    public BulkOperationResult(int requested) {
+        this.requested = requested;
+    }
+
+    public void addAffected(int count) {
+        affected += count;
+    }
+
+    public void addNotFound(Long id) {
+        notFound.add(id);
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.demo.logic.entity.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+
+public final class ConditionalRequests {
+    // Parameters that only shape the envelope; leaving them out keeps a tag read with ?meta=false valid for If-Match.
+    private static final Set<String> PRESENTATION_ONLY = Set.of("meta");
+
+    private ConditionalRequests() {
+    }
+
+    // Writes ETag/Last-Modified and answers whether the client copy is current; the caller then returns null
+    // and Spring sends the 304 without serializing the body.
+    public static boolean notModified(WebRequest request, Fingerprint fingerprint) {
+        return check(request, fingerprint, fingerprint.getLastModified());
+    }
+
+    // Lists only get an ETag: a deleted row does not move the newest timestamp, so If-Modified-Since would lie.
+    public static boolean listNotModified(WebRequest request, Fingerprint fingerprint) {
+        return check(request, fingerprint, -1);
+    }
+
+    private static boolean check(WebRequest request, Fingerprint fingerprint, long lastModified) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            representation(servletRequest.getRequest(), fingerprint);
+        }
+        return notModified(request, fingerprint.etag(), lastModified);
+    }
+
+    // For representations whose tag was computed earlier, e.g. a cached payload.
+    public static boolean notModified(WebRequest request, String etag, long lastModified) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    // If-Match: absent or "*" passes; otherwise one of the listed tags must equal the current one. Our tags are weak only
+    // so the container can gzip them, and they change with every row update, so the W/ prefix is ignored here.
+    public static boolean preconditionFailed(HttpServletRequest request, Fingerprint current) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return false;
+        }
+
+        String etag = opaque(representation(request, current).etag());
+        for (String candidate : ifMatch.split(",")) {
+            if (opaque(candidate.trim()).equals(etag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    // Query parameters such as fields= or a cursor change the representation, so reads and writes tag them alike.
+    private static Fingerprint representation(HttpServletRequest request, Fingerprint fingerprint) {
+        String query = request.getQueryString();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (!PRESENTATION_ONLY.contains(parameter.split("=", 2)[0])) {
+                    fingerprint.add(parameter);
+                }
+            }
+        }
+        return fingerprint;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.demo.logic.entity.http;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public enum CountMode {
+    NONE,
+    ESTIMATE,
+    EXACT;
+
+    public static Optional<CountMode> from(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.of(EXACT);
+        }
+
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.demo.logic.entity.http;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+// Accumulates ids, update timestamps and counts of a representation into an ETag and a Last-Modified value.
+// The tag is weak: Tomcat does not compress responses that carry a strong ETag.
+public class Fingerprint {
+    private final StringBuilder source = new StringBuilder();
+    private long lastModified = -1;
+
+    public Fingerprint add(Object... parts) {
+        for (Object part : parts) {
+            if (part instanceof Date date) {
+                lastModified = Math.max(lastModified, date.getTime());
+                source.append(date.getTime());
+            } else {
+                source.append(part);
+            }
+            source.append(':');
+        }
+        return this;
+    }
+
+    public String etag() {
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
@@ -1,6 +1,5 @@
 package com.project.demo.logic.entity.http;
 
-import com.project.demo.logic.entity.order.Order;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,7 +10,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalResponseHandler {
     @ResponseBody
     public <T> ResponseEntity<?> handleResponse(String message, T body, HttpStatus status, HttpServletRequest request) {
-        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        Meta meta = requestMeta(request);
         if (body instanceof HttpResponse) {
             HttpResponse<?> response = (HttpResponse<?>) body;
             response.setMeta(meta);
@@ -23,7 +22,7 @@ public class GlobalResponseHandler {
 
     @ResponseBody
     public <T> ResponseEntity<?> handleResponse(String message, HttpStatus status, HttpServletRequest request) {
-        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        Meta meta = requestMeta(request);
         HttpResponse<?> response = new HttpResponse<>(message, meta);
         return  new ResponseEntity<>(response, status);
     }
@@ -38,4 +37,12 @@ public class GlobalResponseHandler {
         HttpResponse<T> response = new HttpResponse<>(message, body, meta);
         return  new ResponseEntity<>(response, status);
     }
+
+    // Non-paginated responses only echo the request, so clients can drop it with ?meta=false.
+    private Meta requestMeta(HttpServletRequest request) {
+        if ("false".equalsIgnoreCase(request.getParameter("meta"))) {
+            return null;
+        }
+        return new Meta(request.getMethod(), request.getRequestURL().toString());
+    }
 }
@@ -1,15 +1,12 @@
 package com.project.demo.logic.entity.http;
 
-
-import com.project.demo.logic.entity.order.Order;
-
-import java.util.Collection;
-import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public class HttpResponse<T> {
     private  String message;
     private T data;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Meta meta;
 
 
@@ -0,0 +1,20 @@
+package com.project.demo.logic.entity.http;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+public final class JdbcStreaming {
+    private JdbcStreaming() {
+    }
+
+    // Connector/J buffers the whole result unless it streams row by row (MIN_VALUE) or uses server cursors.
+    public static int fetchSize(Connection connection, int fetchSize) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        if ("MySQL".equalsIgnoreCase(metaData.getDatabaseProductName())
+                && !metaData.getURL().contains("useCursorFetch=true")) {
+            return Integer.MIN_VALUE;
+        }
+        return fetchSize;
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.demo.logic.entity.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class KeysetCursor {
+    private static final String PREFIX = "id:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // An empty cursor starts from the beginning; an unreadable one yields an empty Optional.
+    public static Optional<Long> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.of(0L);
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                return Optional.empty();
+            }
+            return Optional.of(Long.parseLong(value.substring(PREFIX.length())));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    public static Pageable pageRequest(int size) {
+        return PageRequest.of(0, size, Sort.by("id"));
+    }
+
+    public static <T> Meta meta(Slice<T> slice, Function<T, Long> idExtractor, HttpServletRequest request) {
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setPageSize(slice.getSize());
+
+        List<T> content = slice.getContent();
+        if (slice.hasNext() && !content.isEmpty()) {
+            meta.setNextCursor(encode(idExtractor.apply(content.get(content.size() - 1))));
+        }
+
+        return meta;
+    }
+}
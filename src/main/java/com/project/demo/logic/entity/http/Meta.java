@@ -1,17 +1,27 @@
 package com.project.demo.logic.entity.http;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class Meta {
     private String method;
     private String url;
 
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
 
-    private long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
 
     private int pageNumber;
 
     private int pageSize;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public Meta(String method, String url) {
         this.method = method;
         this.url = url;
@@ -33,19 +43,19 @@ public class Meta {
         this.url = url;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
 
@@ -64,4 +74,20 @@ public class Meta {
     public void setPageSize(int pageSize) {
         this.pageSize = pageSize;
     }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
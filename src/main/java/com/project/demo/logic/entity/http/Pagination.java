@@ -0,0 +1,24 @@
+package com.project.demo.logic.entity.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.Slice;
+
+public final class Pagination {
+    private Pagination() {
+    }
+
+    // Meta for a page read without its COUNT(*); totals are filled in only when an estimate is given.
+    public static Meta sliceMeta(Slice<?> slice, Long estimatedTotal, HttpServletRequest request) {
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setPageNumber(slice.getNumber() + 1);
+        meta.setPageSize(slice.getSize());
+        meta.setHasNext(slice.hasNext());
+
+        if (estimatedTotal != null) {
+            meta.setTotalElements(estimatedTotal);
+            meta.setTotalPages(slice.getSize() == 0 ? 1 : (int) Math.ceil((double) estimatedTotal / slice.getSize()));
+        }
+
+        return meta;
+    }
+}
@@ -0,0 +1,153 @@
+package com.project.demo.logic.entity.http;
+
+import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.product.ProductCountByCategory;
+import com.project.demo.logic.entity.product.ProductRepository;
+import com.project.demo.logic.entity.user.UserRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RowCountCache implements DisposableBean {
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+
+    private final AtomicLong products = new AtomicLong();
+    private final AtomicLong categories = new AtomicLong();
+    private final AtomicLong users = new AtomicLong();
+
+    private volatile ConcurrentHashMap<Long, AtomicLong> productsByCategory = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+    private volatile long refreshedAt;
+    private final long maxAgeMillis;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "row-count-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RowCountCache(
+            ProductRepository productRepository,
+            CategoryRepository categoryRepository,
+            UserRepository userRepository,
+            @Value("${pagination.count-cache.refresh-millis:60000}") long maxAgeMillis
+    ) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    // No timer: the COUNT queries only run once something asks for an estimate, and at most once per max age.
+    public void refresh() {
+        ConcurrentHashMap<Long, AtomicLong> byCategory = new ConcurrentHashMap<>();
+        for (ProductCountByCategory count : productRepository.countByCategory()) {
+            byCategory.put(count.getCategoryId(), new AtomicLong(count.getTotal()));
+        }
+
+        products.set(productRepository.count());
+        categories.set(categoryRepository.count());
+        users.set(userRepository.count());
+        productsByCategory = byCategory;
+        refreshedAt = System.currentTimeMillis();
+        loaded = true;
+    }
+
+    // After bulk writes: recount off the request thread. Before the first estimate there is nothing to correct.
+    public void refreshAsync() {
+        if (loaded) {
+            scheduleRefresh();
+        }
+    }
+
+    // Coalesces requests that arrive while a recount is pending.
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                refreshScheduled.set(false);
+                refresh();
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // Estimates are null (total omitted) until the first background load finishes.
+    public Long productCount() {
+        return ensureLoaded() ? products.get() : null;
+    }
+
+    public Long productCount(Long categoryId) {
+        if (!ensureLoaded()) {
+            return null;
+        }
+        AtomicLong count = productsByCategory.get(categoryId);
+        return count == null ? 0 : count.get();
+    }
+
+    public Long categoryCount() {
+        return ensureLoaded() ? categories.get() : null;
+    }
+
+    public Long userCount() {
+        return ensureLoaded() ? users.get() : null;
+    }
+
+    public void productAdded(Long categoryId) {
+        products.incrementAndGet();
+        productsByCategory.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void productRemoved(Long categoryId) {
+        decrement(products);
+        AtomicLong count = productsByCategory.get(categoryId);
+        if (count != null) {
+            decrement(count);
+        }
+    }
+
+    public void categoryAdded() {
+        categories.incrementAndGet();
+    }
+
+    public void categoryRemoved(Long categoryId) {
+        decrement(categories);
+        AtomicLong removedProducts = productsByCategory.remove(categoryId);
+        if (removedProducts != null) {
+            products.updateAndGet(total -> Math.max(0, total - removedProducts.get()));
+        }
+    }
+
+    public void userAdded() {
+        users.incrementAndGet();
+    }
+
+    public void userRemoved() {
+        decrement(users);
+    }
+
+    private boolean ensureLoaded() {
+        if (!loaded || System.currentTimeMillis() - refreshedAt > maxAgeMillis) {
+            scheduleRefresh();
+        }
+        return loaded;
+    }
+
+    private static void decrement(AtomicLong counter) {
+        counter.updateAndGet(total -> Math.max(0, total - 1));
+    }
+}
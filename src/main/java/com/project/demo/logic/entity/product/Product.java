@@ -3,12 +3,19 @@ package com.project.demo.logic.entity.product;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.project.demo.logic.entity.category.Category;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.util.Date;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_category_precio", columnList = "category_id, precio"),
+        @Index(name = "idx_product_category_created", columnList = "category_id, created_at"),
+        @Index(name = "idx_product_precio", columnList = "precio"),
+        @Index(name = "idx_product_created_at", columnList = "created_at"),
+        @Index(name = "idx_product_updated_at", columnList = "updated_at")
+})
 public class Product {
 
     @Id
@@ -20,6 +27,12 @@ public class Product {
     private Integer precio;
     private Integer stock;
 
+    // Bumped on every write, including the set-based stock and bulk updates.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Date createdAt;
@@ -43,6 +56,8 @@ public class Product {
     public void setPrecio(Integer precio) { this.precio = precio; }
     public Integer getStock() { return stock; }
     public void setStock(Integer stock) { this.stock = stock; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public Date getCreatedAt() { return createdAt; }
     public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
     public Date getUpdatedAt() { return updatedAt; }
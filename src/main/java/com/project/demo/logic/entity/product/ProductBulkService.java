@@ -0,0 +1,95 @@
+package com.project.demo.logic.entity.product;
+
+import com.project.demo.logic.entity.http.BulkOperationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class ProductBulkService {
+    // Null fields keep the stored value (COALESCE), so one statement shape covers every partial update;
+    // the flip side is that a patch cannot set a column to null.
+    private static final String PATCH_SQL = "UPDATE product SET "
+            + "nombre = COALESCE(?, nombre), "
+            + "descripcion = COALESCE(?, descripcion), "
+            + "precio = COALESCE(?, precio), "
+            + "stock = COALESCE(?, stock), "
+            + "updated_at = ?, "
+            + "version = version + 1 "
+            + "WHERE id = ?";
+
+    private static final int[] PATCH_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP, Types.BIGINT
+    };
+
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final int batchSize;
+
+    public ProductBulkService(
+            JdbcTemplate jdbcTemplate,
+            ProductRepository productRepository,
+            @Value("${products.bulk.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Transactional
+    public BulkOperationResult patch(List<ProductPatch> patches) {
+        BulkOperationResult result = new BulkOperationResult(patches.size());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        for (int from = 0; from < patches.size(); from += batchSize) {
+            List<ProductPatch> chunk = patches.subList(from, Math.min(from + batchSize, patches.size()));
+            List<Object[]> arguments = new ArrayList<>(chunk.size());
+            for (ProductPatch patch : chunk) {
+                arguments.add(new Object[] {
+                        patch.getNombre(), patch.getDescripcion(), patch.getPrecio(), patch.getStock(), now, patch.getId()
+                });
+            }
+
+            int[] counts = jdbcTemplate.batchUpdate(PATCH_SQL, arguments, PATCH_TYPES);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    result.addNotFound(chunk.get(i).getId());
+                } else if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    result.addAffected(1);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Transactional
+    public BulkOperationResult delete(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        BulkOperationResult result = new BulkOperationResult(distinctIds.size());
+
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, distinctIds.size()));
+            Set<Long> existing = new HashSet<>(productRepository.findExistingIds(chunk));
+
+            chunk.stream().filter(id -> !existing.contains(id)).forEach(result::addNotFound);
+            if (!existing.isEmpty()) {
+                productRepository.deleteAllByIdInBatch(existing);
+                result.addAffected(existing.size());
+            }
+        }
+
+        return result;
+    }
+}
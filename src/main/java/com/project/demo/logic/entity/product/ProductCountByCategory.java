@@ -0,0 +1,7 @@
+package com.project.demo.logic.entity.product;
+
+public interface ProductCountByCategory {
+    Long getCategoryId();
+
+    Long getTotal();
+}
@@ -0,0 +1,20 @@
+package com.project.demo.logic.entity.product;
+
+public class ProductFacetCount {
+    private final Long categoryId;
+    private final String categoryNombre;
+    private final Long priceBucket;
+    private final long count;
+
+    public ProductFacetCount(Long categoryId, String categoryNombre, Long priceBucket, long count) {
+        this.categoryId = categoryId;
+        this.categoryNombre = categoryNombre;
+        this.priceBucket = priceBucket;
+        this.count = count;
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public String getCategoryNombre() { return categoryNombre; }
+    public Long getPriceBucket() { return priceBucket; }
+    public long getCount() { return count; }
+}
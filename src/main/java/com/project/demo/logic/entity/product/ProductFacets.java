@@ -0,0 +1,80 @@
+package com.project.demo.logic.entity.product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ProductFacets {
+    private final long total;
+    private final List<CategoryFacet> categories;
+    private final List<PriceFacet> prices;
+
+    private ProductFacets(long total, List<CategoryFacet> categories, List<PriceFacet> prices) {
+        this.total = total;
+        this.categories = categories;
+        this.prices = prices;
+    }
+
+    // Both facet groups are folded out of the same category x price bucket rows.
+    public static ProductFacets from(List<ProductFacetCount> rows, int bucketSize) {
+        Map<Long, CategoryFacet> categories = new LinkedHashMap<>();
+        Map<Long, Long> buckets = new TreeMap<>();
+        long withoutPrice = 0;
+        long total = 0;
+
+        for (ProductFacetCount row : rows) {
+            total += row.getCount();
+            categories.computeIfAbsent(row.getCategoryId(), id -> new CategoryFacet(id, row.getCategoryNombre())).count += row.getCount();
+            if (row.getPriceBucket() == null) {
+                withoutPrice += row.getCount();
+            } else {
+                buckets.merge(row.getPriceBucket(), row.getCount(), Long::sum);
+            }
+        }
+
+        List<PriceFacet> prices = new ArrayList<>();
+        buckets.forEach((bucket, count) -> prices.add(new PriceFacet(bucket * bucketSize, (bucket + 1) * bucketSize - 1, count)));
+        if (withoutPrice > 0) {
+            prices.add(new PriceFacet(null, null, withoutPrice));
+        }
+
+        return new ProductFacets(total, new ArrayList<>(categories.values()), prices);
+    }
+
+    public long getTotal() { return total; }
+    public List<CategoryFacet> getCategories() { return categories; }
+    public List<PriceFacet> getPrices() { return prices; }
+
+    public static class CategoryFacet {
+        private final Long id;
+        private final String nombre;
+        private long count;
+
+        CategoryFacet(Long id, String nombre) {
+            this.id = id;
+            this.nombre = nombre;
+        }
+
+        public Long getId() { return id; }
+        public String getNombre() { return nombre; }
+        public long getCount() { return count; }
+    }
+
+    public static class PriceFacet {
+        private final Long from;
+        private final Long to;
+        private final long count;
+
+        PriceFacet(Long from, Long to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public Long getFrom() { return from; }
+        public Long getTo() { return to; }
+        public long getCount() { return count; }
+    }
+}
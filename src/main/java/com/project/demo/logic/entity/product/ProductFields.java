@@ -0,0 +1,37 @@
+package com.project.demo.logic.entity.product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public final class ProductFields {
+    public static final String CATEGORY = "category";
+
+    private static final Set<String> FIELDS = Set.of(
+            "id", "nombre", "descripcion", "precio", "stock", "version", "createdAt", "updatedAt", CATEGORY
+    );
+
+    private ProductFields() {
+    }
+
+    // Parses "nombre,precio"; id is always selected so rows stay addressable and cursors keep working.
+    public static Optional<List<String>> parse(String value) {
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add("id");
+
+        for (String part : value.split(",")) {
+            String field = part.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(field)) {
+                return Optional.empty();
+            }
+            fields.add(field);
+        }
+
+        return Optional.of(new ArrayList<>(fields));
+    }
+}
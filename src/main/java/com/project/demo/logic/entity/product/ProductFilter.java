@@ -0,0 +1,44 @@
+package com.project.demo.logic.entity.product;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.util.Date;
+import java.util.List;
+
+public class ProductFilter {
+    private Integer minPrice;
+    private Integer maxPrice;
+    private Boolean inStock;
+    private List<Long> categoryIds;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date createdTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date updatedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date updatedTo;
+
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && !Boolean.TRUE.equals(inStock)
+                && (categoryIds == null || categoryIds.isEmpty())
+                && createdFrom == null && createdTo == null && updatedFrom == null && updatedTo == null;
+    }
+
+    public Integer getMinPrice() { return minPrice; }
+    public void setMinPrice(Integer minPrice) { this.minPrice = minPrice; }
+    public Integer getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(Integer maxPrice) { this.maxPrice = maxPrice; }
+    public Boolean getInStock() { return inStock; }
+    public void setInStock(Boolean inStock) { this.inStock = inStock; }
+    public List<Long> getCategoryIds() { return categoryIds; }
+    public void setCategoryIds(List<Long> categoryIds) { this.categoryIds = categoryIds; }
+    public Date getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(Date createdFrom) { this.createdFrom = createdFrom; }
+    public Date getCreatedTo() { return createdTo; }
+    public void setCreatedTo(Date createdTo) { this.createdTo = createdTo; }
+    public Date getUpdatedFrom() { return updatedFrom; }
+    public void setUpdatedFrom(Date updatedFrom) { this.updatedFrom = updatedFrom; }
+    public Date getUpdatedTo() { return updatedTo; }
+    public void setUpdatedTo(Date updatedTo) { this.updatedTo = updatedTo; }
+}
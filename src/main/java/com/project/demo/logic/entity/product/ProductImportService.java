@@ -0,0 +1,243 @@
+package com.project.demo.logic.entity.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+public class ProductImportService {
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    // Plain JDBC: IDENTITY ids stop Hibernate from batching inserts.
+    private static final String INSERT_SQL = "INSERT INTO product "
+            + "(nombre, descripcion, precio, stock, category_id, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final int[] INSERT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final ObjectReader treeReader;
+    private final ObjectReader rowReader;
+    private final int batchSize;
+
+    public ProductImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CategoryRepository categoryRepository,
+            ObjectMapper objectMapper,
+            @Value("${products.import.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryRepository = categoryRepository;
+        this.treeReader = objectMapper.readerFor(JsonNode.class);
+        this.rowReader = objectMapper.readerFor(ProductImportRow.class);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    // Accepts a JSON array or newline-delimited JSON objects; rows are read one at a time. Each element is read
+    // as a tree first, so a field of the wrong type fails its row while broken syntax still stops the import.
+    public ProductImportResult importJson(InputStream input) throws IOException {
+        Importer importer = new Importer();
+
+        try (MappingIterator<JsonNode> rows = treeReader.readValues(input)) {
+            while (rows.hasNextValue()) {
+                JsonNode node = rows.nextValue();
+                ProductImportRow row;
+                try {
+                    row = node == null || node.isNull() ? null : rowReader.treeToValue(node, ProductImportRow.class);
+                } catch (JsonProcessingException exception) {
+                    importer.reject("Invalid row: " + exception.getOriginalMessage());
+                    continue;
+                }
+                importer.accept(row);
+            }
+        } catch (JsonProcessingException exception) {
+            importer.reject("Malformed JSON, import stopped: " + exception.getOriginalMessage());
+        }
+
+        return importer.finish();
+    }
+
+    // Expects the columns categoryId,nombre,descripcion,precio,stock; blank lines and a header line are skipped.
+    public ProductImportResult importCsv(Reader reader) throws IOException {
+        Importer importer = new Importer();
+        BufferedReader lines = new BufferedReader(reader);
+
+        boolean first = true;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!(first && isHeader(line))) {
+                acceptCsv(importer, line);
+            }
+            first = false;
+        }
+
+        return importer.finish();
+    }
+
+    private void acceptCsv(Importer importer, String line) {
+        List<String> fields = parseCsvLine(line);
+        if (fields.size() != 5) {
+            importer.reject("Expected 5 columns but found " + fields.size());
+            return;
+        }
+
+        try {
+            ProductImportRow row = new ProductImportRow();
+            row.setCategoryId(fields.get(0).isBlank() ? null : Long.valueOf(fields.get(0).trim()));
+            row.setNombre(fields.get(1));
+            row.setDescripcion(fields.get(2).isEmpty() ? null : fields.get(2));
+            row.setPrecio(fields.get(3).isBlank() ? null : Integer.valueOf(fields.get(3).trim()));
+            row.setStock(fields.get(4).isBlank() ? null : Integer.valueOf(fields.get(4).trim()));
+            importer.accept(row);
+        } catch (NumberFormatException exception) {
+            importer.reject("Invalid number: " + exception.getMessage());
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("categoryid");
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(ch);
+            }
+        }
+
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private class Importer {
+        private final Set<Long> categoryIds = new HashSet<>(categoryRepository.findAllIds());
+        private final List<Object[]> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchRows = new ArrayList<>(batchSize);
+        private final ProductImportResult result = new ProductImportResult();
+        private long row;
+
+        void accept(ProductImportRow item) {
+            row++;
+
+            String error = validate(item);
+            if (error != null) {
+                result.addError(row, error);
+                return;
+            }
+
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            batch.add(new Object[] {
+                    item.getNombre(), item.getDescripcion(), item.getPrecio(), item.getStock(), item.getCategoryId(), now, now
+            });
+            batchRows.add(row);
+
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            row++;
+            result.addError(row, message);
+        }
+
+        ProductImportResult finish() {
+            flush();
+            result.setReceived(row);
+            return result;
+        }
+
+        // Each batch commits on its own; when the database rejects one, its rows are reported and the import goes on.
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> chunk = new ArrayList<>(batch);
+            List<Long> chunkRows = new ArrayList<>(batchRows);
+            batch.clear();
+            batchRows.clear();
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, chunk, INSERT_TYPES));
+                result.addImported(chunk.size());
+            } catch (DataAccessException exception) {
+                log.warn("Product import batch of rows {}-{} failed", chunkRows.get(0), chunkRows.get(chunkRows.size() - 1), exception);
+                String message = "Batch insert failed: " + exception.getMostSpecificCause().getMessage();
+                chunkRows.forEach(failedRow -> result.addError(failedRow, message));
+            }
+        }
+
+        private String validate(ProductImportRow item) {
+            if (item == null) {
+                return "Empty row";
+            }
+            if (item.getCategoryId() == null) {
+                return "categoryId is required";
+            }
+            if (!categoryIds.contains(item.getCategoryId())) {
+                return "Category " + item.getCategoryId() + " not found";
+            }
+            if (item.getNombre() == null || item.getNombre().isBlank()) {
+                return "nombre is required";
+            }
+            if (item.getPrecio() != null && item.getPrecio() < 0) {
+                return "precio must not be negative";
+            }
+            if (item.getStock() != null && item.getStock() < 0) {
+                return "stock must not be negative";
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.demo.logic.entity.product;
+
+// Body of PATCH /products: absent or null fields are left as stored, so a field cannot be cleared this way.
+public class ProductPatch {
+    private Long id;
+    private String nombre;
+    private String descripcion;
+    private Integer precio;
+    private Integer stock;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getNombre() { return nombre; }
+    public void setNombre(String nombre) { this.nombre = nombre; }
+    public String getDescripcion() { return descripcion; }
+    public void setDescripcion(String descripcion) { this.descripcion = descripcion; }
+    public Integer getPrecio() { return precio; }
+    public void setPrecio(Integer precio) { this.precio = precio; }
+    public Integer getStock() { return stock; }
+    public void setStock(Integer stock) { this.stock = stock; }
+}
@@ -1,11 +1,88 @@
 package com.project.demo.logic.entity.product;
 
+import com.project.demo.logic.entity.cache.CatalogCache;
+import jakarta.persistence.QueryHint;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductSummaryQueries {
+    // Listing reads project into ProductSummary with the category joined in the same statement.
+    String SUMMARY_SELECT = "SELECT new com.project.demo.logic.entity.product.ProductSummary("
+            + "p.id, p.nombre, p.descripcion, p.precio, p.stock, p.createdAt, p.updatedAt, c.id, c.nombre) "
+            + "FROM Product p JOIN p.category c";
+
     Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+
+    @Cacheable(cacheNames = CatalogCache.PRODUCTS, unless = "#result == null")
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id = :id")
+    Optional<Product> findCachedById(@Param("id") Long id);
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductSummary> findAllSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT)
+    Slice<ProductSummary> findSummarySlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.id > :after")
+    Slice<ProductSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE c.id = :categoryId",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId")
+    Page<ProductSummary> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE c.id = :categoryId")
+    Slice<ProductSummary> findSummarySliceByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE c.id = :categoryId AND p.id > :after")
+    Slice<ProductSummary> findSummariesByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                                         @Param("after") Long after,
+                                                         Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.id IN :ids")
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.category.id AS categoryId, COUNT(p) AS total FROM Product p GROUP BY p.category.id")
+    List<ProductCountByCategory> countByCategory();
+
+    // Lets category ETags cover their products without loading the collections.
+    @Query("SELECT p.category.id AS categoryId, COUNT(p) AS total, SUM(p.id) AS idSum, MAX(p.updatedAt) AS newest "
+            + "FROM Product p WHERE p.category.id IN :categoryIds GROUP BY p.category.id")
+    List<ProductRevisionByCategory> findRevisionsByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.category.id IN :categoryIds")
+    int deleteByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds);
+
+    @Query("SELECT p.id AS id, p.stock AS stock, p.version AS version, p.category.id AS categoryId "
+            + "FROM Product p WHERE p.id = :id")
+    Optional<StockLevel> findStockLevelById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = COALESCE(p.stock, 0) + :quantity, "
+            + "p.version = p.version + 1, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, "
+            + "p.version = p.version + 1, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :id AND p.stock >= :quantity")
+    int reserveStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
@@ -0,0 +1,13 @@
+package com.project.demo.logic.entity.product;
+
+import java.util.Date;
+
+public interface ProductRevisionByCategory {
+    Long getCategoryId();
+
+    Long getTotal();
+
+    Long getIdSum();
+
+    Date getNewest();
+}
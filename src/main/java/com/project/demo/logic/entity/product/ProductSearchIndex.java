@@ -0,0 +1,425 @@
+package com.project.demo.logic.entity.product;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class ProductSearchIndex implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private static final long RETRY_DELAY_SECONDS = 30;
+    private static final float NAME_WEIGHT = 3f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final int NO_PRICE = Integer.MIN_VALUE;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "la", "las", "lo", "los",
+            "o", "para", "por", "se", "sin", "su", "un", "una", "y"
+    );
+
+    public record Hits(List<Long> productIds, long total) {
+    }
+
+    private final ProductStreamService productStreamService;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService executor;
+    private final double compactionRatio;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile boolean ready;
+
+    // Both guarded by lock; pending is non-null while a rebuild is reading the table.
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pending;
+
+    public ProductSearchIndex(
+            ProductStreamService productStreamService,
+            PlatformTransactionManager transactionManager,
+            @Value("${products.search.compaction-ratio:0.25}") double compactionRatio
+    ) {
+        this.productStreamService = productStreamService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.compactionRatio = compactionRatio;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAsync();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuildAsync() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            executor.execute(this::rebuildOrRetry);
+        }
+    }
+
+    public void index(Product product) {
+        Document document = new Document(product.getId(), product.getNombre(), product.getDescripcion(),
+                product.getPrecio(), product.getCategory().getId());
+        apply(target -> target.put(document));
+    }
+
+    public void indexAll(Collection<ProductSummary> rows) {
+        List<Document> documents = rows.stream().map(Document::of).toList();
+        apply(target -> documents.forEach(target::put));
+    }
+
+    public void remove(Long productId) {
+        apply(target -> target.remove(productId));
+    }
+
+    public void removeAll(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        apply(target -> ids.forEach(target::remove));
+    }
+
+    public void removeCategories(Collection<Long> categoryIds) {
+        Set<Long> ids = new HashSet<>(categoryIds);
+        apply(target -> target.removeCategories(ids));
+    }
+
+    // Every term must match the name or the description; name hits weigh more and rare terms count more.
+    public Hits search(String query, Long categoryId, Integer minPrice, Integer maxPrice, long offset, int limit) {
+        List<String> terms = new ArrayList<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new Hits(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, categoryId, minPrice, maxPrice, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        for (String token : SEPARATORS.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void apply(Consumer<Segment> operation) {
+        boolean compact;
+
+        lock.writeLock().lock();
+        try {
+            operation.accept(segment);
+            if (pending != null) {
+                pending.add(operation);
+            }
+            compact = segment.needsCompaction(compactionRatio);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            rebuildAsync();
+        }
+    }
+
+    // A failed load (e.g. the database is not up yet) must not leave search answering 503 until a restart.
+    private void rebuildOrRetry() {
+        try {
+            rebuild();
+        } catch (RuntimeException exception) {
+            log.warn("Product search index rebuild failed, retrying in {}s", RETRY_DELAY_SECONDS, exception);
+            executor.schedule(this::rebuildAsync, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    // Loads a fresh segment off-lock, then replays the writes that happened meanwhile and swaps it in.
+    private void rebuild() {
+        rebuildScheduled.set(false);
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ProductSummary> rows = productStreamService.streamSummaries(null)) {
+                    rows.forEach(row -> fresh.put(Document.of(row)));
+                }
+            });
+        } catch (RuntimeException exception) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw exception;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(operation -> operation.accept(fresh));
+            pending = null;
+            segment = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Document(Long productId, String nombre, String descripcion, Integer precio, Long categoryId) {
+        static Document of(ProductSummary row) {
+            return new Document(row.getId(), row.getNombre(), row.getDescripcion(), row.getPrecio(),
+                    row.getCategory().getId());
+        }
+    }
+
+    // Doc ids are dense ints in insertion order, so every posting list stays sorted; updates tombstone the old doc.
+    private static final class Segment {
+        private final Map<String, Postings> nameTerms = new HashMap<>();
+        private final Map<String, Postings> descriptionTerms = new HashMap<>();
+        private final Map<Long, Integer> docByProduct = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+
+        private long[] productIds = new long[1024];
+        private long[] categoryIds = new long[1024];
+        private int[] prices = new int[1024];
+        private int size;
+        private int deletedCount;
+
+        void put(Document document) {
+            remove(document.productId());
+
+            int doc = size++;
+            if (doc == productIds.length) {
+                int capacity = productIds.length * 2;
+                productIds = Arrays.copyOf(productIds, capacity);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+            }
+
+            productIds[doc] = document.productId();
+            categoryIds[doc] = document.categoryId();
+            prices[doc] = document.precio() != null ? document.precio() : NO_PRICE;
+            docByProduct.put(document.productId(), doc);
+
+            for (String term : tokenize(document.nombre())) {
+                nameTerms.computeIfAbsent(term, key -> new Postings()).add(doc);
+            }
+            for (String term : tokenize(document.descripcion())) {
+                descriptionTerms.computeIfAbsent(term, key -> new Postings()).add(doc);
+            }
+        }
+
+        void remove(Long productId) {
+            Integer doc = docByProduct.remove(productId);
+            if (doc != null) {
+                deleted.set(doc);
+                deletedCount++;
+            }
+        }
+
+        void removeCategories(Set<Long> ids) {
+            for (int doc = 0; doc < size; doc++) {
+                if (!deleted.get(doc) && ids.contains(categoryIds[doc])) {
+                    remove(productIds[doc]);
+                }
+            }
+        }
+
+        boolean needsCompaction(double ratio) {
+            return deletedCount > 1000 && deletedCount > size * ratio;
+        }
+
+        Hits search(List<String> terms, Long categoryId, Integer minPrice, Integer maxPrice, long offset, int limit) {
+            int count = terms.size();
+            Postings[] names = new Postings[count];
+            Postings[] descriptions = new Postings[count];
+            float[] weights = new float[count];
+            Integer[] order = new Integer[count];
+            int live = Math.max(1, size - deletedCount);
+
+            for (int i = 0; i < count; i++) {
+                names[i] = nameTerms.getOrDefault(terms.get(i), Postings.EMPTY);
+                descriptions[i] = descriptionTerms.getOrDefault(terms.get(i), Postings.EMPTY);
+                int frequency = names[i].size + descriptions[i].size;
+                if (frequency == 0) {
+                    return new Hits(List.of(), 0);
+                }
+                weights[i] = (float) Math.log(1 + (double) live / frequency);
+                order[i] = i;
+            }
+
+            // Drive from the rarest term and probe the others, so work follows the smallest posting list.
+            Arrays.sort(order, Comparator.comparingInt(i -> names[i].size + descriptions[i].size));
+            int[] candidates = Postings.union(names[order[0]], descriptions[order[0]]);
+            float[] scores = new float[candidates.length];
+            int matches = 0;
+
+            for (int doc : candidates) {
+                if (deleted.get(doc) || !accepts(doc, categoryId, minPrice, maxPrice)) {
+                    continue;
+                }
+
+                float score = 0;
+                boolean matched = true;
+                for (int i : order) {
+                    boolean inName = names[i].contains(doc);
+                    boolean inDescription = descriptions[i].contains(doc);
+                    if (!inName && !inDescription) {
+                        matched = false;
+                        break;
+                    }
+                    score += weights[i] * ((inName ? NAME_WEIGHT : 0) + (inDescription ? DESCRIPTION_WEIGHT : 0));
+                }
+
+                if (matched) {
+                    candidates[matches] = doc;
+                    scores[matches++] = score;
+                }
+            }
+
+            return new Hits(page(candidates, scores, matches, offset, limit), matches);
+        }
+
+        private boolean accepts(int doc, Long categoryId, Integer minPrice, Integer maxPrice) {
+            if (categoryId != null && categoryIds[doc] != categoryId) {
+                return false;
+            }
+            if (minPrice == null && maxPrice == null) {
+                return true;
+            }
+            int price = prices[doc];
+            return price != NO_PRICE
+                    && (minPrice == null || price >= minPrice)
+                    && (maxPrice == null || price <= maxPrice);
+        }
+
+        // Bounded heap of the best offset + limit hits; ties go to the lower product id.
+        private List<Long> page(int[] docs, float[] scores, int matches, long offset, int limit) {
+            if (offset >= matches) {
+                return List.of();
+            }
+            int from = (int) offset;
+            int wanted = (int) Math.min((long) from + limit, matches);
+
+            Comparator<Integer> ranking = (a, b) -> {
+                int byScore = Float.compare(scores[b], scores[a]);
+                return byScore != 0 ? byScore : Long.compare(productIds[docs[a]], productIds[docs[b]]);
+            };
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(wanted, matches), ranking.reversed());
+            for (int i = 0; i < matches; i++) {
+                if (best.size() < wanted) {
+                    best.add(i);
+                } else if (ranking.compare(i, best.peek()) < 0) {
+                    best.poll();
+                    best.add(i);
+                }
+            }
+
+            List<Integer> ranked = new ArrayList<>(best);
+            ranked.sort(ranking);
+
+            List<Long> page = new ArrayList<>(Math.min(limit, ranked.size() - from));
+            for (int i = from; i < ranked.size(); i++) {
+                page.add(productIds[docs[ranked.get(i)]]);
+            }
+            return Collections.unmodifiableList(page);
+        }
+    }
+
+    private static final class Postings {
+        static final Postings EMPTY = new Postings();
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+
+        static int[] union(Postings left, Postings right) {
+            int[] merged = new int[left.size + right.size];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < left.size || j < right.size) {
+                int next;
+                if (j >= right.size || (i < left.size && left.docs[i] < right.docs[j])) {
+                    next = left.docs[i++];
+                } else if (i >= left.size || right.docs[j] < left.docs[i]) {
+                    next = right.docs[j++];
+                } else {
+                    next = left.docs[i++];
+                    j++;
+                }
+                merged[n++] = next;
+            }
+            return Arrays.copyOf(merged, n);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.demo.logic.entity.product;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public final class ProductSort {
+    // Only columns that are indexed or cheap to sort on are accepted.
+    private static final Set<String> KEYS = Set.of("id", "nombre", "precio", "stock", "createdAt", "updatedAt");
+
+    private ProductSort() {
+    }
+
+    // Parses "precio,-createdAt": comma separated keys, a leading '-' for descending.
+    public static Optional<Sort> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.of(Sort.unsorted());
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String key = part.trim();
+            boolean descending = key.startsWith("-");
+            if (descending) {
+                key = key.substring(1);
+            }
+            if (!KEYS.contains(key)) {
+                return Optional.empty();
+            }
+            orders.add(descending ? Sort.Order.desc(key) : Sort.Order.asc(key));
+        }
+
+        return Optional.of(Sort.by(orders));
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.demo.logic.entity.product;
+
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ProductSpecifications {
+    private ProductSpecifications() {
+    }
+
+    // category.id resolves to the foreign key column, so filtering never adds a join.
+    public static Specification<Product> matching(ProductFilter filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.getCategoryIds() != null && !filter.getCategoryIds().isEmpty()) {
+                predicates.add(root.get("category").get("id").in(filter.getCategoryIds()));
+            }
+            if (filter.getMinPrice() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("precio"), filter.getMinPrice()));
+            }
+            if (filter.getMaxPrice() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("precio"), filter.getMaxPrice()));
+            }
+            if (Boolean.TRUE.equals(filter.getInStock())) {
+                predicates.add(builder.greaterThan(root.get("stock"), 0));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(builder.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+            if (filter.getUpdatedFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedFrom()));
+            }
+            if (filter.getUpdatedTo() != null) {
+                predicates.add(builder.lessThan(root.get("updatedAt"), filter.getUpdatedTo()));
+            }
+
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Product> idGreaterThan(Long id) {
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
+}
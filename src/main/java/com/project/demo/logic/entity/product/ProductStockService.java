@@ -0,0 +1,53 @@
+package com.project.demo.logic.entity.product;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Service
+public class ProductStockService {
+    private final ProductRepository productRepository;
+
+    public ProductStockService(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    // Each adjustment is a single conditional UPDATE, so concurrent callers never overwrite each other.
+    @Transactional
+    public StockLevel adjust(Long productId, StockOperation operation, int quantity) {
+        int updated = switch (operation) {
+            case INCREMENT -> productRepository.incrementStock(productId, quantity);
+            case DECREMENT, RESERVE -> productRepository.reserveStock(productId, quantity);
+        };
+
+        StockLevel level = productRepository.findStockLevelById(productId)
+                .orElseThrow(() -> new StockAdjustmentException(productId, StockAdjustmentException.Reason.PRODUCT_NOT_FOUND));
+        if (updated == 0) {
+            throw new StockAdjustmentException(productId, StockAdjustmentException.Reason.INSUFFICIENT_STOCK);
+        }
+
+        return level;
+    }
+
+    // All or nothing: the first failing line rolls back every adjustment already applied.
+    // Levels come back in request order, one per line.
+    @Transactional
+    public List<StockLevel> adjustAll(List<StockAdjustment> adjustments) {
+        // A stable lock order keeps two orders touching the same products from deadlocking.
+        List<Integer> lockOrder = IntStream.range(0, adjustments.size()).boxed()
+                .sorted(Comparator.comparing(index -> adjustments.get(index).getProductId()))
+                .toList();
+
+        StockLevel[] levels = new StockLevel[adjustments.size()];
+        for (int index : lockOrder) {
+            StockAdjustment adjustment = adjustments.get(index);
+            levels[index] = adjust(adjustment.getProductId(), adjustment.getOperation(), adjustment.getQuantity());
+        }
+
+        return Arrays.asList(levels);
+    }
+}
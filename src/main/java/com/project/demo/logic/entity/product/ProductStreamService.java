@@ -0,0 +1,76 @@
+package com.project.demo.logic.entity.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.demo.logic.entity.http.JdbcStreaming;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ProductStreamService {
+    private static final int FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectWriter objectWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductStreamService(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectWriter = objectMapper.writer();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // Rows are written as they come off the cursor, one JSON object per line; DTO rows keep the persistence context empty.
+    public StreamingResponseBody ndjsonByCategory(Long categoryId) {
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductSummary> rows = streamSummaries(categoryId)) {
+                writeLines(rows.iterator(), outputStream);
+            }
+        });
+    }
+
+    // Products of one category, or all of them when categoryId is null, in id order. Must run in a transaction
+    // and be closed by the caller.
+    public Stream<ProductSummary> streamSummaries(Long categoryId) {
+        String jpql = ProductRepository.SUMMARY_SELECT + (categoryId != null ? " WHERE c.id = :categoryId" : "") + " ORDER BY p.id";
+        TypedQuery<ProductSummary> query = entityManager.createQuery(jpql, ProductSummary.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize());
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        return query.getResultStream();
+    }
+
+    // A fixed fetch-size hint still lets Connector/J buffer the whole result on a default URL.
+    private int fetchSize() {
+        return entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> JdbcStreaming.fetchSize(connection, FETCH_SIZE));
+    }
+
+    private void writeLines(Iterator<?> rows, OutputStream outputStream) {
+        try {
+            while (rows.hasNext()) {
+                outputStream.write(objectWriter.writeValueAsBytes(rows.next()));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
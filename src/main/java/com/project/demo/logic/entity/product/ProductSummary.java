@@ -0,0 +1,48 @@
+package com.project.demo.logic.entity.product;
+
+import java.util.Date;
+
+public class ProductSummary {
+    private final Long id;
+    private final String nombre;
+    private final String descripcion;
+    private final Integer precio;
+    private final Integer stock;
+    private final Date createdAt;
+    private final Date updatedAt;
+    private final CategorySummary category;
+
+    public ProductSummary(Long id, String nombre, String descripcion, Integer precio, Integer stock,
+                          Date createdAt, Date updatedAt, Long categoryId, String categoryNombre) {
+        this.id = id;
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+        this.precio = precio;
+        this.stock = stock;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.category = new CategorySummary(categoryId, categoryNombre);
+    }
+
+    public Long getId() { return id; }
+    public String getNombre() { return nombre; }
+    public String getDescripcion() { return descripcion; }
+    public Integer getPrecio() { return precio; }
+    public Integer getStock() { return stock; }
+    public Date getCreatedAt() { return createdAt; }
+    public Date getUpdatedAt() { return updatedAt; }
+    public CategorySummary getCategory() { return category; }
+
+    public static class CategorySummary {
+        private final Long id;
+        private final String nombre;
+
+        public CategorySummary(Long id, String nombre) {
+            this.id = id;
+            this.nombre = nombre;
+        }
+
+        public Long getId() { return id; }
+        public String getNombre() { return nombre; }
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.demo.logic.entity.product;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductSummaryQueries {
+    Page<ProductSummary> findFilteredSummaries(Specification<Product> specification, Pageable pageable);
+
+    Slice<ProductSummary> findFilteredSummarySlice(Specification<Product> specification, Pageable pageable);
+
+    Page<Map<String, Object>> findFilteredFields(Specification<Product> specification, List<String> fields, Pageable pageable);
+
+    Slice<Map<String, Object>> findFilteredFieldSlice(Specification<Product> specification, List<String> fields, Pageable pageable);
+
+    List<ProductFacetCount> countFacets(Specification<Product> specification, int priceBucket);
+}
@@ -0,0 +1,178 @@
+package com.project.demo.logic.entity.product;
+
+import com.project.demo.logic.entity.category.Category;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class ProductSummaryQueriesImpl implements ProductSummaryQueries {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductSummary> findFilteredSummaries(Specification<Product> specification, Pageable pageable) {
+        List<ProductSummary> content = select(specification, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<ProductSummary> findFilteredSummarySlice(Specification<Product> specification, Pageable pageable) {
+        return toSlice(select(specification, pageable, pageable.getPageSize() + 1), pageable);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFilteredFields(Specification<Product> specification, List<String> fields,
+                                                        Pageable pageable) {
+        List<Map<String, Object>> content = selectFields(specification, fields, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findFilteredFieldSlice(Specification<Product> specification, List<String> fields,
+                                                             Pageable pageable) {
+        return toSlice(selectFields(specification, fields, pageable, pageable.getPageSize() + 1), pageable);
+    }
+
+    @Override
+    public List<ProductFacetCount> countFacets(Specification<Product> specification, int priceBucket) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Join<Product, Category> category = product.join("category");
+
+        // A literal, not a bind parameter, so the select and group by expressions render identically.
+        Expression<Number> bucket = builder.floor(builder.quot(product.get("precio"), builder.literal(priceBucket)));
+        Expression<Long> total = builder.count(product);
+
+        query.multiselect(category.get("id"), category.get("nombre"), bucket, total);
+        where(query, specification.toPredicate(product, query, builder));
+        query.groupBy(category.get("id"), category.get("nombre"), bucket);
+
+        List<ProductFacetCount> counts = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            Number bucketValue = (Number) row.get(2);
+            counts.add(new ProductFacetCount(
+                    row.get(0, Long.class),
+                    row.get(1, String.class),
+                    bucketValue != null ? bucketValue.longValue() : null,
+                    row.get(3, Long.class)
+            ));
+        }
+        return counts;
+    }
+
+    private List<ProductSummary> select(Specification<Product> specification, Pageable pageable, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = builder.createQuery(ProductSummary.class);
+        Root<Product> product = query.from(Product.class);
+        Join<Product, Category> category = product.join("category");
+
+        query.select(builder.construct(ProductSummary.class,
+                product.get("id"), product.get("nombre"), product.get("descripcion"), product.get("precio"),
+                product.get("stock"), product.get("createdAt"), product.get("updatedAt"),
+                category.get("id"), category.get("nombre")));
+        where(query, specification.toPredicate(product, query, builder));
+
+        query.orderBy(orders(pageable, product, builder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Only the requested columns are read; the category join is added only when it is asked for.
+    private List<Map<String, Object>> selectFields(Specification<Product> specification, List<String> fields,
+                                                   Pageable pageable, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            if (ProductFields.CATEGORY.equals(field)) {
+                Join<Product, Category> category = product.join("category");
+                selections.add(category.get("id").alias("categoryId"));
+                selections.add(category.get("nombre").alias("categoryNombre"));
+            } else {
+                selections.add(product.get(field).alias(field));
+            }
+        }
+        query.multiselect(selections);
+        where(query, specification.toPredicate(product, query, builder));
+        query.orderBy(orders(pageable, product, builder));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                if (ProductFields.CATEGORY.equals(field)) {
+                    Map<String, Object> category = new LinkedHashMap<>();
+                    category.put("id", tuple.get("categoryId"));
+                    category.put("nombre", tuple.get("categoryNombre"));
+                    row.put(field, category);
+                } else {
+                    row.put(field, tuple.get(field));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // id breaks ties so offsets stay stable across pages.
+    private List<Order> orders(Pageable pageable, Root<Product> product, CriteriaBuilder builder) {
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(pageable.getSort(), product, builder));
+        if (pageable.getSort().getOrderFor("id") == null) {
+            orders.add(builder.asc(product.get("id")));
+        }
+        return orders;
+    }
+
+    private <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private long count(Specification<Product> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+
+        query.select(builder.count(product));
+        where(query, specification.toPredicate(product, query, builder));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void where(CriteriaQuery<?> query, Predicate predicate) {
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
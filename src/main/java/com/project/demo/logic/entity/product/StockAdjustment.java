@@ -0,0 +1,14 @@
+package com.project.demo.logic.entity.product;
+
+public class StockAdjustment {
+    private Long productId;
+    private StockOperation operation;
+    private Integer quantity;
+
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+    public StockOperation getOperation() { return operation; }
+    public void setOperation(StockOperation operation) { this.operation = operation; }
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+}
@@ -0,0 +1,22 @@
+package com.project.demo.logic.entity.product;
+
+public class StockAdjustmentException extends RuntimeException {
+    public enum Reason {
+        PRODUCT_NOT_FOUND,
+        INSUFFICIENT_STOCK
+    }
+
+    private final Long productId;
+    private final Reason reason;
+
+    public StockAdjustmentException(Long productId, Reason reason) {
+        super(reason == Reason.PRODUCT_NOT_FOUND
+                ? "Product " + productId + " not found"
+                : "Insufficient stock for product " + productId);
+        this.productId = productId;
+        this.reason = reason;
+    }
+
+    public Long getProductId() { return productId; }
+    public Reason getReason() { return reason; }
+}
@@ -0,0 +1,11 @@
+package com.project.demo.logic.entity.product;
+
+public interface StockLevel {
+    Long getId();
+
+    Integer getStock();
+
+    Long getVersion();
+
+    Long getCategoryId();
+}
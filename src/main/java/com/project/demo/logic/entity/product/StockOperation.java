@@ -0,0 +1,9 @@
+package com.project.demo.logic.entity.product;
+
+public enum StockOperation {
+    INCREMENT,
+    // DECREMENT and RESERVE both remove the exact quantity or fail when not enough is available;
+    // nothing is ever silently clamped to zero.
+    DECREMENT,
+    RESERVE
+}
@@ -0,0 +1,33 @@
+package com.project.demo.logic.entity.rol;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+
+// Reports seeding progress as a detail only; it stays UP so neither /actuator/health nor readiness waits on BCrypt.
+@Component
+public class BootstrapHealthIndicator implements HealthIndicator {
+    private final BootstrapSeeder bootstrapSeeder;
+
+    public BootstrapHealthIndicator(BootstrapSeeder bootstrapSeeder) {
+        this.bootstrapSeeder = bootstrapSeeder;
+    }
+
+    @Override
+    public Health health() {
+        if (!bootstrapSeeder.completion().isDone()) {
+            return Health.up().withDetail("seeding", "in progress").build();
+        }
+        try {
+            bootstrapSeeder.completion().join();
+            return Health.up().withDetail("seeding", "complete").build();
+        } catch (CompletionException exception) {
+            return Health.up()
+                    .withDetail("seeding", "failed")
+                    .withDetail("error", String.valueOf(exception.getCause()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.project.demo.logic.entity.rol;
+
+import com.project.demo.logic.entity.http.RowCountCache;
+import com.project.demo.logic.entity.user.User;
+import com.project.demo.logic.entity.user.UserRepository;
+import com.project.demo.logic.entity.user.UserSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Seeds the default roles and accounts once the application is ready. A single query reads what already exists,
+// so a warm restart costs one round trip and no BCrypt work; by default it runs off the startup thread.
+// Readiness does not wait for it: until it finishes, logins with the seed accounts get the usual 401.
+@Component
+public class BootstrapSeeder {
+    private static final Logger log = LoggerFactory.getLogger(BootstrapSeeder.class);
+
+    private record SeedRole(RoleEnum name, String description) {
+    }
+
+    private record SeedUser(String name, String lastname, String email, String password, RoleEnum role) {
+    }
+
+    private static final List<SeedRole> ROLES = List.of(
+            new SeedRole(RoleEnum.USER, "Default user role"),
+            new SeedRole(RoleEnum.SUPER_ADMIN, "Super Administrator role")
+    );
+
+    private static final List<SeedUser> USERS = List.of(
+            new SeedUser("Super", "Admin", "super.admin@gmail.com", "superadmin123", RoleEnum.SUPER_ADMIN),
+            new SeedUser("User", "Client", "user@gmail.com", "user123", RoleEnum.USER)
+    );
+
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserSearchIndex userSearchIndex;
+    private final RowCountCache rowCountCache;
+    private final boolean async;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    public BootstrapSeeder(
+            RoleRepository roleRepository,
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            UserSearchIndex userSearchIndex,
+            RowCountCache rowCountCache,
+            @Value("${bootstrap.async:true}") boolean async
+    ) {
+        this.roleRepository = roleRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userSearchIndex = userSearchIndex;
+        this.rowCountCache = rowCountCache;
+        this.async = async;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        if (!async) {
+            run();
+            return;
+        }
+
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (RuntimeException exception) {
+                log.error("Bootstrap seeding failed", exception);
+            }
+        }, "bootstrap-seeder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    private void run() {
+        try {
+            seed();
+            completion.complete(null);
+        } catch (RuntimeException exception) {
+            completion.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    void seed() {
+        Set<String> existing = new HashSet<>(roleRepository.findSeedState(USERS.stream().map(SeedUser::email).toList()));
+
+        List<Role> missingRoles = new ArrayList<>();
+        for (SeedRole seedRole : ROLES) {
+            if (!existing.contains("role:" + seedRole.name())) {
+                Role role = new Role();
+                role.setName(seedRole.name());
+                role.setDescription(seedRole.description());
+                missingRoles.add(role);
+            }
+        }
+        List<SeedUser> missingUsers = USERS.stream()
+                .filter(seedUser -> !existing.contains("user:" + seedUser.email()))
+                .toList();
+
+        if (missingRoles.isEmpty() && missingUsers.isEmpty()) {
+            return;
+        }
+
+        roleRepository.saveAll(missingRoles);
+        if (!missingUsers.isEmpty()) {
+            createUsers(missingUsers);
+        }
+        log.info("Bootstrap seeded {} roles and {} users", missingRoles.size(), missingUsers.size());
+    }
+
+    private void createUsers(List<SeedUser> missingUsers) {
+        Map<RoleEnum, Role> roles = new HashMap<>();
+        roleRepository.findAll().forEach(role -> roles.put(role.getName(), role));
+
+        List<User> users = new ArrayList<>();
+        for (SeedUser seedUser : missingUsers) {
+            User user = new User();
+            user.setName(seedUser.name());
+            user.setLastname(seedUser.lastname());
+            user.setEmail(seedUser.email());
+            user.setPassword(passwordEncoder.encode(seedUser.password()));
+            user.setRole(roles.get(seedUser.role()));
+            users.add(user);
+        }
+
+        for (User user : userRepository.saveAll(users)) {
+            userSearchIndex.put(user);
+            rowCountCache.userAdded();
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.project.demo.logic.entity.rol;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends CrudRepository<Role, Integer> {
     Optional<Role> findByName(RoleEnum name);
+
+    // Role names and the given user emails that already exist, as "role:NAME" and "user:email", in one round trip.
+    @Query(value = "SELECT CONCAT('role:', r.name) FROM rol r "
+            + "UNION ALL SELECT CONCAT('user:', u.email) FROM user u WHERE u.email IN (:emails)", nativeQuery = true)
+    List<String> findSeedState(@Param("emails") Collection<String> emails);
 }
@@ -11,7 +11,10 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
-@Table(name = "user")
+@Table(name = "user", indexes = {
+        @Index(name = "idx_user_name", columnList = "name"),
+        @Index(name = "idx_user_lastname", columnList = "lastname")
+})
 @Entity
 public class User implements UserDetails {
     @Id
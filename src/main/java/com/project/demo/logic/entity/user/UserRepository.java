@@ -1,19 +1,24 @@
 package com.project.demo.logic.entity.user;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long>  {
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE %?1%")
-    List<User> findUsersWithCharacterInName(String character);
-
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     @Query("SELECT u FROM User u WHERE u.name = ?1")
     Optional<User> findByName(String name);
 
     Optional<User> findByLastname(String lastname);
 
+    @EntityGraph(attributePaths = "role")
     Optional<User> findByEmail(String email);
+
+    Slice<User> findAllBy(Pageable pageable);
+
+    Slice<User> findByIdGreaterThan(Long id, Pageable pageable);
 }
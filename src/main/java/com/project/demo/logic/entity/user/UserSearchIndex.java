@@ -0,0 +1,303 @@
+package com.project.demo.logic.entity.user;
+
+import com.project.demo.logic.entity.http.JdbcStreaming;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class UserSearchIndex implements DisposableBean {
+    public static final int GRAM_LENGTH = 3;
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchIndex.class);
+    private static final long RETRY_DELAY_SECONDS = 30;
+    private static final int FETCH_SIZE = 1000;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    public record Hits(List<Long> userIds, long total) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService executor;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile boolean ready;
+
+    // Both guarded by lock; pending is non-null while a rebuild is reading the table.
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pending;
+
+    public UserSearchIndex(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAsync();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuildAsync() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            executor.execute(this::rebuildOrRetry);
+        }
+    }
+
+    public void put(User user) {
+        put(user.getId(), user.getName(), user.getLastname(), user.getEmail());
+    }
+
+    public void put(Long id, String name, String lastname, String email) {
+        String text = document(name, lastname, email);
+        apply(target -> target.put(id, text));
+    }
+
+    public void remove(Long id) {
+        apply(target -> target.remove(id));
+    }
+
+    // Substring match over name, lastname and email, ordered by user id; null when the query is too short.
+    public Hits search(String query, long offset, int limit) {
+        String needle = fold(query).trim();
+        if (needle.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(needle, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static String document(String name, String lastname, String email) {
+        // Fields are kept apart by a newline, which no folded query contains, so matches never span two fields.
+        return fold(name) + '\n' + fold(lastname) + '\n' + fold(email);
+    }
+
+    private static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private void apply(Consumer<Segment> operation) {
+        boolean compact;
+
+        lock.writeLock().lock();
+        try {
+            operation.accept(segment);
+            if (pending != null) {
+                pending.add(operation);
+            }
+            compact = segment.needsCompaction();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            rebuildAsync();
+        }
+    }
+
+    // A failed load (e.g. the database is not up yet) must not leave search answering 503 until a restart.
+    private void rebuildOrRetry() {
+        try {
+            rebuild();
+        } catch (RuntimeException exception) {
+            log.warn("User search index rebuild failed, retrying in {}s", RETRY_DELAY_SECONDS, exception);
+            executor.schedule(this::rebuildAsync, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false);
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Tuple> rows = searchRows()) {
+                    rows.forEach(row -> fresh.put(row.get("id", Long.class), document(row.get("name", String.class),
+                            row.get("lastname", String.class), row.get("email", String.class))));
+                }
+            });
+        } catch (RuntimeException exception) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw exception;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(operation -> operation.accept(fresh));
+            pending = null;
+            segment = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Connector/J buffers the whole table unless the fetch size asks it to stream.
+    private Stream<Tuple> searchRows() {
+        int fetchSize = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> JdbcStreaming.fetchSize(connection, FETCH_SIZE));
+        return entityManager.createQuery(
+                        "SELECT u.id AS id, u.name AS name, u.lastname AS lastname, u.email AS email FROM User u ORDER BY u.id",
+                        Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    // Trigram postings narrow the candidates; the stored text confirms the actual substring.
+    private static final class Segment {
+        private final Map<String, Postings> grams = new HashMap<>();
+        private final Map<Long, Integer> docByUser = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+
+        private long[] userIds = new long[1024];
+        private String[] texts = new String[1024];
+        private int size;
+        private int deletedCount;
+
+        void put(Long userId, String text) {
+            remove(userId);
+
+            int doc = size++;
+            if (doc == userIds.length) {
+                userIds = Arrays.copyOf(userIds, doc * 2);
+                texts = Arrays.copyOf(texts, doc * 2);
+            }
+
+            userIds[doc] = userId;
+            texts[doc] = text;
+            docByUser.put(userId, doc);
+            for (String gram : UserSearchIndex.grams(text)) {
+                grams.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        }
+
+        void remove(Long userId) {
+            Integer doc = docByUser.remove(userId);
+            if (doc != null) {
+                deleted.set(doc);
+                texts[doc] = null;
+                deletedCount++;
+            }
+        }
+
+        boolean needsCompaction() {
+            return deletedCount > 1000 && deletedCount > size / 4;
+        }
+
+        Hits search(String needle, long offset, int limit) {
+            Postings rarest = null;
+            for (String gram : UserSearchIndex.grams(needle)) {
+                Postings postings = grams.get(gram);
+                if (postings == null) {
+                    return new Hits(List.of(), 0);
+                }
+                if (rarest == null || postings.size < rarest.size) {
+                    rarest = postings;
+                }
+            }
+
+            long[] matches = new long[rarest.size];
+            int count = 0;
+            for (int i = 0; i < rarest.size; i++) {
+                int doc = rarest.docs[i];
+                if (!deleted.get(doc) && texts[doc].contains(needle)) {
+                    matches[count++] = userIds[doc];
+                }
+            }
+
+            Arrays.sort(matches, 0, count);
+            List<Long> page = new ArrayList<>();
+            for (long i = offset; i < count && i < offset + limit; i++) {
+                page.add(matches[(int) i]);
+            }
+            return new Hits(page, count);
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.demo.logic.entity.user;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public final class UserSpecifications {
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> nameStartsWith(String prefix) {
+        return startsWith("name", prefix);
+    }
+
+    public static Specification<User> lastnameStartsWith(String prefix) {
+        return startsWith("lastname", prefix);
+    }
+
+    public static Specification<User> emailStartsWith(String prefix) {
+        return startsWith("email", prefix);
+    }
+
+    // Left-anchored and without LOWER() so the column index is usable; the column collation handles case.
+    private static Specification<User> startsWith(String attribute, String prefix) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, builder) -> builder.like(root.get(attribute), pattern, '\\');
+    }
+}
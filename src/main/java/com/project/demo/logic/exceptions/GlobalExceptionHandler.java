@@ -2,6 +2,11 @@ package com.project.demo.logic.exceptions;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,14 +15,41 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleSecurityException(Exception exception) {
-        ProblemDetail errorDetail = null;
+        ProblemDetail errorDetail = resolve(exception);
+
+        Counter.builder("http.server.exceptions")
+                .description("Exceptions turned into problem responses")
+                .tag("exception", exception.getClass().getSimpleName())
+                .tag("status", String.valueOf(errorDetail.getStatus()))
+                .register(meterRegistry)
+                .increment();
 
-        // TODO send this stack trace to an observability tool
-        exception.printStackTrace();
+        // Auth failures, conflicts and load shedding are expected traffic; only unknown failures get a stack trace.
+        if (errorDetail.getStatus() == 500) {
+            log.error("Request failed with {}", errorDetail.getStatus(), exception);
+        } else {
+            log.debug("Request rejected with {}: {}", errorDetail.getStatus(), exception.getMessage());
+        }
+
+        return errorDetail;
+    }
+
+    private ProblemDetail resolve(Exception exception) {
+        ProblemDetail errorDetail = null;
 
         if (exception instanceof BadCredentialsException) {
             errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(401), exception.getMessage());
@@ -46,6 +78,16 @@ public class GlobalExceptionHandler {
             errorDetail.setProperty("description", "The JWT token has expired");
         }
 
+        if (exception instanceof OptimisticLockingFailureException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(409), exception.getMessage());
+            errorDetail.setProperty("description", "The resource was modified by another request");
+        }
+
+        if (exception instanceof RejectedExecutionException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(503), exception.getMessage());
+            errorDetail.setProperty("description", "The server is busy, please try again later");
+        }
+
         if (errorDetail == null) {
             errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(500), exception.getMessage());
             errorDetail.setProperty("description", "Unknown internal server error.");
@@ -2,12 +2,14 @@ package com.project.demo.rest.auth;
 
 import com.project.demo.logic.entity.auth.AuthenticationService;
 import com.project.demo.logic.entity.auth.JwtService;
+import com.project.demo.logic.entity.http.RowCountCache;
 import com.project.demo.logic.entity.rol.Role;
 import com.project.demo.logic.entity.rol.RoleEnum;
 import com.project.demo.logic.entity.rol.RoleRepository;
 import com.project.demo.logic.entity.user.LoginResponse;
 import com.project.demo.logic.entity.user.User;
 import com.project.demo.logic.entity.user.UserRepository;
+import com.project.demo.logic.entity.user.UserSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +35,12 @@ public class AuthRestController {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private RowCountCache rowCountCache;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
 
 
     private final AuthenticationService authenticationService;
@@ -52,10 +60,7 @@ public class AuthRestController {
         LoginResponse loginResponse = new LoginResponse();
         loginResponse.setToken(jwtToken);
         loginResponse.setExpiresIn(jwtService.getExpirationTime());
-
-        Optional<User> foundedUser = userRepository.findByEmail(user.getEmail());
-
-        foundedUser.ifPresent(loginResponse::setAuthUser);
+        loginResponse.setAuthUser(authenticatedUser);
 
         return ResponseEntity.ok(loginResponse);
     }
@@ -75,6 +80,8 @@ public class AuthRestController {
         }
         user.setRole(optionalRole.get());
         User savedUser = userRepository.save(user);
+        rowCountCache.userAdded();
+        userSearchIndex.put(savedUser);
         return ResponseEntity.ok(savedUser);
     }
 
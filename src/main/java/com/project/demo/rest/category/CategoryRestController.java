@@ -1,21 +1,46 @@
 package com.project.demo.rest.category;
 
+import com.project.demo.logic.entity.cache.CatalogCache;
+import com.project.demo.logic.entity.cache.ResponseBodyCache;
 import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryBulkService;
 import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.export.ExportDataset;
+import com.project.demo.logic.entity.export.ExportService;
+import com.project.demo.logic.entity.http.BulkOperationResult;
+import com.project.demo.logic.entity.http.ConditionalRequests;
+import com.project.demo.logic.entity.http.CountMode;
+import com.project.demo.logic.entity.http.Fingerprint;
 import com.project.demo.logic.entity.http.GlobalResponseHandler;
+import com.project.demo.logic.entity.http.KeysetCursor;
 import com.project.demo.logic.entity.http.Meta;
+import com.project.demo.logic.entity.http.Pagination;
+import com.project.demo.logic.entity.http.RowCountCache;
 import com.project.demo.logic.entity.product.Product;
 import com.project.demo.logic.entity.product.ProductRepository;
+import com.project.demo.logic.entity.product.ProductRevisionByCategory;
+import com.project.demo.logic.entity.product.ProductSearchIndex;
+import com.project.demo.logic.entity.product.ProductStreamService;
+import com.project.demo.logic.entity.product.ProductSummary;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/categories")
@@ -25,13 +50,57 @@ public class CategoryRestController {
     private CategoryRepository categoryRepository;
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private RowCountCache rowCountCache;
+    @Autowired
+    private CatalogCache catalogCache;
+    @Autowired
+    private ProductStreamService productStreamService;
+    @Autowired
+    private CategoryBulkService categoryBulkService;
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getAll(@RequestParam(defaultValue = "1") int page,
                                     @RequestParam(defaultValue = "10") int size,
-                                    HttpServletRequest request) {
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(defaultValue = "exact") String count,
+                                    HttpServletRequest request,
+                                    WebRequest webRequest) {
+        return responseBodyCache.serve(request, webRequest, () -> list(page, size, after, count, request, webRequest));
+    }
+
+    private ResponseEntity<?> list(int page, int size, String after, String count,
+                                   HttpServletRequest request, WebRequest webRequest) {
+        if (after != null) {
+            Optional<Long> lastId = KeysetCursor.decode(after);
+            if (lastId.isEmpty()) {
+                return new GlobalResponseHandler().handleResponse("Invalid cursor", HttpStatus.BAD_REQUEST, request);
+            }
+
+            Slice<Category> slice = categoryRepository.findByIdGreaterThan(lastId.get(), KeysetCursor.pageRequest(size));
+            return listResponse(slice.getContent(), KeysetCursor.meta(slice, Category::getId, request), webRequest);
+        }
+
+        Optional<CountMode> countMode = CountMode.from(count);
+        if (countMode.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid count mode", HttpStatus.BAD_REQUEST, request);
+        }
+
         Pageable pageable = PageRequest.of(page - 1, size);
+
+        if (countMode.get() != CountMode.EXACT) {
+            Slice<Category> slice = categoryRepository.findAllBy(pageable);
+            Long total = countMode.get() == CountMode.ESTIMATE ? rowCountCache.categoryCount() : null;
+            return listResponse(slice.getContent(), Pagination.sliceMeta(slice, total, request), webRequest);
+        }
+
         Page<Category> data = categoryRepository.findAll(pageable);
 
         Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
@@ -40,14 +109,28 @@ public class CategoryRestController {
         meta.setPageNumber(data.getNumber() + 1);
         meta.setPageSize(data.getSize());
 
-        return new GlobalResponseHandler().handleResponse("Categories retrieved", data.getContent(), HttpStatus.OK, meta);
+        return listResponse(data.getContent(), meta, webRequest);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        HttpServletRequest request) {
+        return exportService.export(ExportDataset.CATEGORIES, format, request);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> getById(@PathVariable Long id, HttpServletRequest request) {
-        Optional<Category> found = categoryRepository.findById(id);
+    public ResponseEntity<?> getById(@PathVariable Long id, HttpServletRequest request, WebRequest webRequest) {
+        return responseBodyCache.serve(request, webRequest, () -> find(id, request, webRequest));
+    }
+
+    private ResponseEntity<?> find(Long id, HttpServletRequest request, WebRequest webRequest) {
+        Optional<Category> found = categoryRepository.findCachedById(id);
         if (found.isPresent()) {
+            if (ConditionalRequests.notModified(webRequest, fingerprint(found.get()))) {
+                return null;
+            }
             return new GlobalResponseHandler().handleResponse("Category retrieved", found.get(), HttpStatus.OK, request);
         } else {
             return new GlobalResponseHandler().handleResponse("Category not found", HttpStatus.NOT_FOUND, request);
@@ -58,6 +141,8 @@ public class CategoryRestController {
     @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
     public ResponseEntity<?> add(@RequestBody Category category, HttpServletRequest request) {
         Category saved = categoryRepository.save(category);
+        rowCountCache.categoryAdded();
+        catalogCache.evictResponses();
         return new GlobalResponseHandler().handleResponse("Category created", saved, HttpStatus.CREATED, request);
     }
 
@@ -67,9 +152,14 @@ public class CategoryRestController {
         Optional<Category> found = categoryRepository.findById(id);
         if (found.isPresent()) {
             Category c = found.get();
+            if (ConditionalRequests.preconditionFailed(request, fingerprint(c))) {
+                return new GlobalResponseHandler().handleResponse("Category was modified by another request", HttpStatus.PRECONDITION_FAILED, request);
+            }
             c.setNombre(category.getNombre());
             c.setDescripcion(category.getDescripcion());
             Category saved = categoryRepository.save(c);
+            catalogCache.evictCategory(id);
+            catalogCache.evictAllProducts();
             return new GlobalResponseHandler().handleResponse("Category updated", saved, HttpStatus.OK, request);
         }
         return new GlobalResponseHandler().handleResponse("Category not found", HttpStatus.NOT_FOUND, request);
@@ -80,20 +170,78 @@ public class CategoryRestController {
     public ResponseEntity<?> delete(@PathVariable Long id, HttpServletRequest request) {
         Optional<Category> found = categoryRepository.findById(id);
         if (found.isPresent()) {
-            categoryRepository.deleteById(id);
+            categoryBulkService.delete(List.of(id));
+            productSearchIndex.removeCategories(List.of(id));
+            rowCountCache.categoryRemoved(id);
+            catalogCache.evictCategory(id);
+            catalogCache.evictAllProducts();
             return new GlobalResponseHandler().handleResponse("Category deleted", found.get(), HttpStatus.OK, request);
         }
         return new GlobalResponseHandler().handleResponse("Category not found", HttpStatus.NOT_FOUND, request);
     }
 
+    @DeleteMapping
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> deleteAll(@RequestParam List<Long> ids, HttpServletRequest request) {
+        BulkOperationResult result = categoryBulkService.delete(ids);
+        productSearchIndex.removeCategories(ids);
+        ids.forEach(catalogCache::evictCategory);
+        catalogCache.evictAllProducts();
+        rowCountCache.refreshAsync();
+        return new GlobalResponseHandler().handleResponse("Categories deleted", result, HttpStatus.OK, request);
+    }
+
     @GetMapping("/{id}/products")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> getProducts(@PathVariable Long id, HttpServletRequest request) {
-        Optional<Category> found = categoryRepository.findById(id);
-        if (found.isPresent()) {
-            return new GlobalResponseHandler().handleResponse("Products retrieved", found.get().getProducts(), HttpStatus.OK, request);
+    public ResponseEntity<?> getProducts(@PathVariable Long id,
+                                         @RequestParam(defaultValue = "1") int page,
+                                         @RequestParam(defaultValue = "10") int size,
+                                         @RequestParam(required = false) String after,
+                                         @RequestParam(required = false) String format,
+                                         HttpServletRequest request,
+                                         WebRequest webRequest) {
+        // format=ndjson is mapped to streamProducts; anything else but json would silently fall back to pages.
+        if (format != null && !format.equalsIgnoreCase("json")) {
+            return new GlobalResponseHandler().handleResponse("Unsupported format, use json or ndjson", HttpStatus.BAD_REQUEST, request);
         }
-        return new GlobalResponseHandler().handleResponse("Category not found", HttpStatus.NOT_FOUND, request);
+
+        if (!categoryRepository.existsById(id)) {
+            return new GlobalResponseHandler().handleResponse("Category not found", HttpStatus.NOT_FOUND, request);
+        }
+
+        if (after != null) {
+            Optional<Long> lastId = KeysetCursor.decode(after);
+            if (lastId.isEmpty()) {
+                return new GlobalResponseHandler().handleResponse("Invalid cursor", HttpStatus.BAD_REQUEST, request);
+            }
+
+            Slice<ProductSummary> slice = productRepository.findSummariesByCategoryIdAfter(id, lastId.get(),
+                    KeysetCursor.pageRequest(size));
+            return productListResponse(slice.getContent(), KeysetCursor.meta(slice, ProductSummary::getId, request), webRequest);
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+        Page<ProductSummary> data = productRepository.findSummariesByCategoryId(id, pageable);
+
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setTotalPages(data.getTotalPages());
+        meta.setTotalElements(data.getTotalElements());
+        meta.setPageNumber(data.getNumber() + 1);
+        meta.setPageSize(data.getSize());
+
+        return productListResponse(data.getContent(), meta, webRequest);
+    }
+
+    @GetMapping(value = "/{id}/products", params = "format=ndjson")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> streamProducts(@PathVariable Long id) {
+        if (!categoryRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(productStreamService.ndjsonByCategory(id));
     }
 
     @DeleteMapping("/{categoryId}/products/{productId}")
@@ -105,8 +253,53 @@ public class CategoryRestController {
         if (found.isPresent() && found.get().getCategory() != null &&
                 found.get().getCategory().getId().equals(categoryId)) {
             productRepository.delete(found.get());
+            productSearchIndex.remove(productId);
+            rowCountCache.productRemoved(categoryId);
+            catalogCache.evictProduct(productId);
+            catalogCache.evictCategory(categoryId);
             return new GlobalResponseHandler().handleResponse("Product deleted", found.get(), HttpStatus.OK, request);
         }
         return new GlobalResponseHandler().handleResponse("Product not found", HttpStatus.NOT_FOUND, request);
     }
+
+    private ResponseEntity<?> listResponse(List<Category> rows, Meta meta, WebRequest webRequest) {
+        Fingerprint fingerprint = new Fingerprint().add(meta.getTotalElements(), meta.getHasNext(), meta.getNextCursor());
+        Map<Long, ProductRevisionByCategory> revisions = productRevisions(rows.stream().map(Category::getId).toList());
+        rows.forEach(row -> fingerprint(fingerprint, row, revisions.get(row.getId())));
+        if (ConditionalRequests.listNotModified(webRequest, fingerprint)) {
+            return null;
+        }
+        return new GlobalResponseHandler().handleResponse("Categories retrieved", rows, HttpStatus.OK, meta);
+    }
+
+    private ResponseEntity<?> productListResponse(List<ProductSummary> rows, Meta meta, WebRequest webRequest) {
+        Fingerprint fingerprint = new Fingerprint().add(meta.getTotalElements(), meta.getHasNext(), meta.getNextCursor());
+        rows.forEach(row -> fingerprint.add(row.getId(), row.getUpdatedAt(), row.getCategory().getNombre()));
+        if (ConditionalRequests.listNotModified(webRequest, fingerprint)) {
+            return null;
+        }
+        return new GlobalResponseHandler().handleResponse("Products retrieved", rows, HttpStatus.OK, meta);
+    }
+
+    private Fingerprint fingerprint(Category category) {
+        return fingerprint(new Fingerprint(), category, productRevisions(List.of(category.getId())).get(category.getId()));
+    }
+
+    // The embedded products are summarised order-independently: count, id sum and newest update.
+    private Fingerprint fingerprint(Fingerprint fingerprint, Category category, ProductRevisionByCategory revision) {
+        fingerprint.add("category", category.getId(), category.getUpdatedAt());
+        if (revision != null) {
+            fingerprint.add(revision.getTotal(), revision.getIdSum(), revision.getNewest());
+        }
+        return fingerprint;
+    }
+
+    // One grouped query per page instead of loading every category's product collection.
+    private Map<Long, ProductRevisionByCategory> productRevisions(List<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findRevisionsByCategoryIdIn(categoryIds).stream()
+                .collect(Collectors.toMap(ProductRevisionByCategory::getCategoryId, Function.identity()));
+    }
 }
@@ -1,38 +1,127 @@
 package com.project.demo.rest.product;
 
+import com.project.demo.logic.entity.cache.CatalogCache;
 import com.project.demo.logic.entity.category.Category;
 import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.export.ExportDataset;
+import com.project.demo.logic.entity.export.ExportService;
+import com.project.demo.logic.entity.http.BulkOperationResult;
+import com.project.demo.logic.entity.http.ConditionalRequests;
+import com.project.demo.logic.entity.http.CountMode;
+import com.project.demo.logic.entity.http.Fingerprint;
 import com.project.demo.logic.entity.http.GlobalResponseHandler;
+import com.project.demo.logic.entity.http.KeysetCursor;
 import com.project.demo.logic.entity.http.Meta;
+import com.project.demo.logic.entity.http.Pagination;
+import com.project.demo.logic.entity.http.RowCountCache;
 import com.project.demo.logic.entity.product.Product;
+import com.project.demo.logic.entity.product.ProductBulkService;
+import com.project.demo.logic.entity.product.ProductFacets;
+import com.project.demo.logic.entity.product.ProductFields;
+import com.project.demo.logic.entity.product.ProductFilter;
+import com.project.demo.logic.entity.product.ProductImportResult;
+import com.project.demo.logic.entity.product.ProductImportService;
+import com.project.demo.logic.entity.product.ProductPatch;
 import com.project.demo.logic.entity.product.ProductRepository;
+import com.project.demo.logic.entity.product.ProductSearchIndex;
+import com.project.demo.logic.entity.product.ProductSort;
+import com.project.demo.logic.entity.product.ProductSpecifications;
+import com.project.demo.logic.entity.product.ProductStockService;
+import com.project.demo.logic.entity.product.StockAdjustment;
+import com.project.demo.logic.entity.product.StockAdjustmentException;
+import com.project.demo.logic.entity.product.StockLevel;
+import com.project.demo.logic.entity.product.ProductSummary;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/products")
 public class ProductRestController {
+    // Search ranks offset + size hits in a heap; the cap keeps a single request from ranking the whole index.
+    private static final int MAX_SEARCH_SIZE = 100;
 
     @Autowired
     private ProductRepository productRepository;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private RowCountCache rowCountCache;
+    @Autowired
+    private CatalogCache catalogCache;
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private ProductBulkService productBulkService;
+    @Autowired
+    private ProductStockService productStockService;
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    @Autowired
+    private ExportService exportService;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getAll(@RequestParam(defaultValue = "1") int page,
                                     @RequestParam(defaultValue = "10") int size,
-                                    HttpServletRequest request) {
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(defaultValue = "exact") String count,
+                                    @RequestParam(required = false) String sort,
+                                    @RequestParam(required = false) String fields,
+                                    @ModelAttribute ProductFilter filter,
+                                    HttpServletRequest request,
+                                    WebRequest webRequest) {
+        if (!filter.isEmpty() || sort != null || fields != null) {
+            return getFiltered(filter, sort, fields, page, size, after, count, request, webRequest);
+        }
+
+        if (after != null) {
+            Optional<Long> lastId = KeysetCursor.decode(after);
+            if (lastId.isEmpty()) {
+                return new GlobalResponseHandler().handleResponse("Invalid cursor", HttpStatus.BAD_REQUEST, request);
+            }
+
+            Slice<ProductSummary> slice = productRepository.findSummariesAfter(lastId.get(), KeysetCursor.pageRequest(size));
+            return listResponse("Products retrieved", slice.getContent(), KeysetCursor.meta(slice, ProductSummary::getId, request), webRequest);
+        }
+
+        Optional<CountMode> countMode = CountMode.from(count);
+        if (countMode.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid count mode", HttpStatus.BAD_REQUEST, request);
+        }
+
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Product> data = productRepository.findAll(pageable);
+
+        if (countMode.get() != CountMode.EXACT) {
+            Slice<ProductSummary> slice = productRepository.findSummarySlice(pageable);
+            Long total = countMode.get() == CountMode.ESTIMATE ? rowCountCache.productCount() : null;
+            return listResponse("Products retrieved", slice.getContent(), Pagination.sliceMeta(slice, total, request), webRequest);
+        }
+
+        Page<ProductSummary> data = productRepository.findAllSummaries(pageable);
 
         Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
         meta.setTotalPages(data.getTotalPages());
@@ -40,14 +129,73 @@ public class ProductRestController {
         meta.setPageNumber(data.getNumber() + 1);
         meta.setPageSize(data.getSize());
 
-        return new GlobalResponseHandler().handleResponse("Products retrieved", data.getContent(), HttpStatus.OK, meta);
+        return listResponse("Products retrieved", data.getContent(), meta, webRequest);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        HttpServletRequest request) {
+        return exportService.export(ExportDataset.PRODUCTS, format, request);
+    }
+
+    @GetMapping("/facets")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> facets(@ModelAttribute ProductFilter filter,
+                                    @RequestParam(defaultValue = "1000") int priceBucket,
+                                    HttpServletRequest request) {
+        if (priceBucket < 1) {
+            return new GlobalResponseHandler().handleResponse("priceBucket must be positive", HttpStatus.BAD_REQUEST, request);
+        }
+
+        ProductFacets facets = ProductFacets.from(
+                productRepository.countFacets(ProductSpecifications.matching(filter), priceBucket), priceBucket);
+        return new GlobalResponseHandler().handleResponse("Product facets retrieved", facets, HttpStatus.OK, request);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(defaultValue = "1") int page,
+                                    @RequestParam(defaultValue = "10") int size,
+                                    @RequestParam(required = false) Long categoryId,
+                                    @RequestParam(required = false) Integer minPrice,
+                                    @RequestParam(required = false) Integer maxPrice,
+                                    HttpServletRequest request) {
+        if (!productSearchIndex.isReady()) {
+            return new GlobalResponseHandler().handleResponse("Search index is still loading", HttpStatus.SERVICE_UNAVAILABLE, request);
+        }
+        if (page < 1 || size < 1) {
+            return new GlobalResponseHandler().handleResponse("Invalid page or size", HttpStatus.BAD_REQUEST, request);
+        }
+        size = Math.min(size, MAX_SEARCH_SIZE);
+
+        ProductSearchIndex.Hits hits = productSearchIndex.search(q, categoryId, minPrice, maxPrice, (long) (page - 1) * size, size);
+
+        // Keep the index ranking; ids deleted since the lookup simply drop out.
+        Map<Long, ProductSummary> rows = hits.productIds().isEmpty()
+                ? Map.of()
+                : productRepository.findSummariesByIdIn(hits.productIds()).stream()
+                        .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+        List<ProductSummary> data = hits.productIds().stream().map(rows::get).filter(Objects::nonNull).toList();
+
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setTotalPages((int) ((hits.total() + size - 1) / size));
+        meta.setTotalElements(hits.total());
+        meta.setPageNumber(page);
+        meta.setPageSize(size);
+
+        return new GlobalResponseHandler().handleResponse("Products found", data, HttpStatus.OK, meta);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> getById(@PathVariable Long id, HttpServletRequest request) {
-        Optional<Product> found = productRepository.findById(id);
+    public ResponseEntity<?> getById(@PathVariable Long id, HttpServletRequest request, WebRequest webRequest) {
+        Optional<Product> found = productRepository.findCachedById(id);
         if (found.isPresent()) {
+            if (ConditionalRequests.notModified(webRequest, fingerprint(found.get()))) {
+                return null;
+            }
             return new GlobalResponseHandler().handleResponse("Product retrieved", found.get(), HttpStatus.OK, request);
         }
         return new GlobalResponseHandler().handleResponse("Product not found", HttpStatus.NOT_FOUND, request);
@@ -58,9 +206,42 @@ public class ProductRestController {
     public ResponseEntity<?> getByCategory(@PathVariable Long categoryId,
                                            @RequestParam(defaultValue = "1") int page,
                                            @RequestParam(defaultValue = "10") int size,
-                                           HttpServletRequest request) {
+                                           @RequestParam(required = false) String after,
+                                           @RequestParam(defaultValue = "exact") String count,
+                                           @RequestParam(required = false) String fields,
+                                           HttpServletRequest request,
+                                           WebRequest webRequest) {
+        if (fields != null) {
+            ProductFilter filter = new ProductFilter();
+            filter.setCategoryIds(List.of(categoryId));
+            return getFiltered(filter, null, fields, page, size, after, count, request, webRequest);
+        }
+
+        if (after != null) {
+            Optional<Long> lastId = KeysetCursor.decode(after);
+            if (lastId.isEmpty()) {
+                return new GlobalResponseHandler().handleResponse("Invalid cursor", HttpStatus.BAD_REQUEST, request);
+            }
+
+            Slice<ProductSummary> slice = productRepository.findSummariesByCategoryIdAfter(categoryId, lastId.get(),
+                    KeysetCursor.pageRequest(size));
+            return listResponse("Products by category retrieved", slice.getContent(), KeysetCursor.meta(slice, ProductSummary::getId, request), webRequest);
+        }
+
+        Optional<CountMode> countMode = CountMode.from(count);
+        if (countMode.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid count mode", HttpStatus.BAD_REQUEST, request);
+        }
+
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Product> data = productRepository.findByCategoryId(categoryId, pageable);
+
+        if (countMode.get() != CountMode.EXACT) {
+            Slice<ProductSummary> slice = productRepository.findSummarySliceByCategoryId(categoryId, pageable);
+            Long total = countMode.get() == CountMode.ESTIMATE ? rowCountCache.productCount(categoryId) : null;
+            return listResponse("Products by category retrieved", slice.getContent(), Pagination.sliceMeta(slice, total, request), webRequest);
+        }
+
+        Page<ProductSummary> data = productRepository.findSummariesByCategoryId(categoryId, pageable);
 
         Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
         meta.setTotalPages(data.getTotalPages());
@@ -68,7 +249,7 @@ public class ProductRestController {
         meta.setPageNumber(data.getNumber() + 1);
         meta.setPageSize(data.getSize());
 
-        return new GlobalResponseHandler().handleResponse("Products by category retrieved", data.getContent(), HttpStatus.OK, meta);
+        return listResponse("Products by category retrieved", data.getContent(), meta, webRequest);
     }
 
     @PostMapping("/category/{categoryId}")
@@ -76,28 +257,75 @@ public class ProductRestController {
     public ResponseEntity<?> add(@PathVariable Long categoryId,
                                  @RequestBody Product product,
                                  HttpServletRequest request) {
+        if (hasNegativeAmounts(product.getPrecio(), product.getStock())) {
+            return new GlobalResponseHandler().handleResponse("precio and stock must not be negative", HttpStatus.BAD_REQUEST, request);
+        }
+
         Optional<Category> category = categoryRepository.findById(categoryId);
         if (category.isPresent()) {
             product.setCategory(category.get());
             Product saved = productRepository.save(product);
+            productSearchIndex.index(saved);
+            rowCountCache.productAdded(categoryId);
+            catalogCache.evictCategory(categoryId);
             return new GlobalResponseHandler().handleResponse("Product created", saved, HttpStatus.CREATED, request);
         }
         return new GlobalResponseHandler().handleResponse("Category not found", HttpStatus.NOT_FOUND, request);
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> importProducts(HttpServletRequest request) throws IOException {
+        ProductImportResult result;
+        try {
+            result = productImportService.importJson(request.getInputStream());
+        } finally {
+            afterImport();
+        }
+        return new GlobalResponseHandler().handleResponse("Products imported", result, HttpStatus.OK, request);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> importProductsCsv(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        ProductImportResult result;
+        try {
+            result = productImportService.importCsv(new InputStreamReader(request.getInputStream(), charset));
+        } finally {
+            afterImport();
+        }
+        return new GlobalResponseHandler().handleResponse("Products imported", result, HttpStatus.OK, request);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
     public ResponseEntity<?> update(@PathVariable Long id,
                                     @RequestBody Product product,
                                     HttpServletRequest request) {
+        if (hasNegativeAmounts(product.getPrecio(), product.getStock())) {
+            return new GlobalResponseHandler().handleResponse("precio and stock must not be negative", HttpStatus.BAD_REQUEST, request);
+        }
+
         Optional<Product> found = productRepository.findById(id);
         if (found.isPresent()) {
             Product p = found.get();
+            if (ConditionalRequests.preconditionFailed(request, fingerprint(p))) {
+                return new GlobalResponseHandler().handleResponse("Product was modified by another request", HttpStatus.PRECONDITION_FAILED, request);
+            }
+            if (product.getVersion() != null && !product.getVersion().equals(p.getVersion())) {
+                return new GlobalResponseHandler().handleResponse("Product was modified by another request", HttpStatus.CONFLICT, request);
+            }
             p.setNombre(product.getNombre());
             p.setDescripcion(product.getDescripcion());
             p.setPrecio(product.getPrecio());
             p.setStock(product.getStock());
             Product saved = productRepository.save(p);
+            productSearchIndex.index(saved);
+            catalogCache.evictProduct(id);
+            catalogCache.evictCategory(p.getCategory().getId());
             return new GlobalResponseHandler().handleResponse("Product updated", saved, HttpStatus.OK, request);
         }
         return new GlobalResponseHandler().handleResponse("Product not found", HttpStatus.NOT_FOUND, request);
@@ -109,8 +337,190 @@ public class ProductRestController {
         Optional<Product> found = productRepository.findById(id);
         if (found.isPresent()) {
             productRepository.delete(found.get());
+            productSearchIndex.remove(id);
+            rowCountCache.productRemoved(found.get().getCategory().getId());
+            catalogCache.evictProduct(id);
+            catalogCache.evictCategory(found.get().getCategory().getId());
             return new GlobalResponseHandler().handleResponse("Product deleted", found.get(), HttpStatus.OK, request);
         }
         return new GlobalResponseHandler().handleResponse("Product not found", HttpStatus.NOT_FOUND, request);
     }
+
+    @PostMapping("/{id}/stock")
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> adjustStock(@PathVariable Long id,
+                                         @RequestBody StockAdjustment adjustment,
+                                         HttpServletRequest request) {
+        adjustment.setProductId(id);
+        if (!isValid(adjustment)) {
+            return new GlobalResponseHandler().handleResponse("Operation and a positive quantity are required", HttpStatus.BAD_REQUEST, request);
+        }
+
+        try {
+            StockLevel level = productStockService.adjust(id, adjustment.getOperation(), adjustment.getQuantity());
+            afterStockChange(level);
+            return new GlobalResponseHandler().handleResponse("Stock updated", level, HttpStatus.OK, request);
+        } catch (StockAdjustmentException exception) {
+            return stockFailure(exception, request);
+        }
+    }
+
+    @PostMapping("/stock")
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> adjustStockBatch(@RequestBody List<StockAdjustment> adjustments, HttpServletRequest request) {
+        if (adjustments.isEmpty() || !adjustments.stream().allMatch(a -> a.getProductId() != null && isValid(a))) {
+            return new GlobalResponseHandler().handleResponse("Every line needs a productId, an operation and a positive quantity", HttpStatus.BAD_REQUEST, request);
+        }
+
+        try {
+            List<StockLevel> levels = productStockService.adjustAll(adjustments);
+            levels.forEach(this::afterStockChange);
+            return new GlobalResponseHandler().handleResponse("Stock updated", levels, HttpStatus.OK, request);
+        } catch (StockAdjustmentException exception) {
+            return stockFailure(exception, request);
+        }
+    }
+
+    @PatchMapping
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> patchAll(@RequestBody List<ProductPatch> patches, HttpServletRequest request) {
+        if (patches.stream().anyMatch(patch -> patch.getId() == null)) {
+            return new GlobalResponseHandler().handleResponse("Every patch needs an id", HttpStatus.BAD_REQUEST, request);
+        }
+        if (patches.stream().anyMatch(patch -> hasNegativeAmounts(patch.getPrecio(), patch.getStock()))) {
+            return new GlobalResponseHandler().handleResponse("precio and stock must not be negative", HttpStatus.BAD_REQUEST, request);
+        }
+
+        BulkOperationResult result = productBulkService.patch(patches);
+        reindex(patches.stream().map(ProductPatch::getId).toList());
+        patches.forEach(patch -> catalogCache.evictProduct(patch.getId()));
+        catalogCache.evictAllCategories();
+        return new GlobalResponseHandler().handleResponse("Products updated", result, HttpStatus.OK, request);
+    }
+
+    @DeleteMapping
+    @PreAuthorize("hasRole('SUPER_ADMIN') and isAuthenticated()")
+    public ResponseEntity<?> deleteAll(@RequestParam List<Long> ids, HttpServletRequest request) {
+        BulkOperationResult result = productBulkService.delete(ids);
+        productSearchIndex.removeAll(ids);
+        ids.forEach(catalogCache::evictProduct);
+        catalogCache.evictAllCategories();
+        rowCountCache.refreshAsync();
+        return new GlobalResponseHandler().handleResponse("Products deleted", result, HttpStatus.OK, request);
+    }
+
+    // Handles filters, sort keys and ?fields= sparse rows, which only read the requested columns.
+    private ResponseEntity<?> getFiltered(ProductFilter filter, String sort, String fields, int page, int size,
+                                          String after, String count, HttpServletRequest request,
+                                          WebRequest webRequest) {
+        Optional<Sort> order = ProductSort.parse(sort);
+        if (order.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid sort", HttpStatus.BAD_REQUEST, request);
+        }
+
+        Optional<List<String>> columns = fields != null ? ProductFields.parse(fields) : Optional.of(List.of());
+        if (columns.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid fields", HttpStatus.BAD_REQUEST, request);
+        }
+        List<String> selected = fields != null ? columns.get() : null;
+
+        Specification<Product> specification = ProductSpecifications.matching(filter);
+
+        if (after != null) {
+            Optional<Long> lastId = KeysetCursor.decode(after);
+            if (lastId.isEmpty() || order.get().isSorted()) {
+                return new GlobalResponseHandler().handleResponse("Cursors only apply to the default id order", HttpStatus.BAD_REQUEST, request);
+            }
+
+            Specification<Product> afterCursor = specification.and(ProductSpecifications.idGreaterThan(lastId.get()));
+            if (selected == null) {
+                Slice<ProductSummary> slice = productRepository.findFilteredSummarySlice(afterCursor, KeysetCursor.pageRequest(size));
+                return listResponse("Products retrieved", slice.getContent(), KeysetCursor.meta(slice, ProductSummary::getId, request), webRequest);
+            }
+
+            Slice<Map<String, Object>> slice = productRepository.findFilteredFieldSlice(afterCursor, selected,
+                    KeysetCursor.pageRequest(size));
+            return listResponse("Products retrieved", slice.getContent(), KeysetCursor.meta(slice, row -> (Long) row.get("id"), request), webRequest);
+        }
+
+        Optional<CountMode> countMode = CountMode.from(count);
+        if (countMode.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid count mode", HttpStatus.BAD_REQUEST, request);
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size, order.get());
+
+        // The cached row counts are unfiltered, so an estimate is not available here.
+        if (countMode.get() != CountMode.EXACT) {
+            Slice<?> slice = selected == null
+                    ? productRepository.findFilteredSummarySlice(specification, pageable)
+                    : productRepository.findFilteredFieldSlice(specification, selected, pageable);
+            return listResponse("Products retrieved", slice.getContent(), Pagination.sliceMeta(slice, null, request), webRequest);
+        }
+
+        Page<?> data = selected == null
+                ? productRepository.findFilteredSummaries(specification, pageable)
+                : productRepository.findFilteredFields(specification, selected, pageable);
+
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setTotalPages(data.getTotalPages());
+        meta.setTotalElements(data.getTotalElements());
+        meta.setPageNumber(data.getNumber() + 1);
+        meta.setPageSize(data.getSize());
+
+        return listResponse("Products retrieved", data.getContent(), meta, webRequest);
+    }
+
+    private ResponseEntity<?> listResponse(String message, List<?> rows, Meta meta, WebRequest webRequest) {
+        Fingerprint fingerprint = new Fingerprint().add(meta.getTotalElements(), meta.getHasNext(), meta.getNextCursor());
+        for (Object row : rows) {
+            if (row instanceof ProductSummary summary) {
+                fingerprint.add(summary.getId(), summary.getUpdatedAt(), summary.getCategory().getNombre());
+            } else if (row instanceof Map<?, ?> fieldRow) {
+                // Sparse rows carry only the selected columns, so their values are the representation.
+                fingerprint.add(fieldRow.values().toArray());
+            }
+        }
+        if (ConditionalRequests.listNotModified(webRequest, fingerprint)) {
+            return null;
+        }
+        return new GlobalResponseHandler().handleResponse(message, rows, HttpStatus.OK, meta);
+    }
+
+    private Fingerprint fingerprint(Product product) {
+        return new Fingerprint().add("product", product.getId(), product.getUpdatedAt(), product.getVersion());
+    }
+
+    private boolean hasNegativeAmounts(Integer precio, Integer stock) {
+        return (precio != null && precio < 0) || (stock != null && stock < 0);
+    }
+
+    private boolean isValid(StockAdjustment adjustment) {
+        return adjustment.getOperation() != null && adjustment.getQuantity() != null && adjustment.getQuantity() > 0;
+    }
+
+    private ResponseEntity<?> stockFailure(StockAdjustmentException exception, HttpServletRequest request) {
+        HttpStatus status = exception.getReason() == StockAdjustmentException.Reason.PRODUCT_NOT_FOUND
+                ? HttpStatus.NOT_FOUND
+                : HttpStatus.CONFLICT;
+        return new GlobalResponseHandler().handleResponse(exception.getMessage(), status, request);
+    }
+
+    private void afterStockChange(StockLevel level) {
+        catalogCache.evictProduct(level.getId());
+        catalogCache.evictCategory(level.getCategoryId());
+    }
+
+    private void reindex(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += 1000) {
+            productSearchIndex.indexAll(productRepository.findSummariesByIdIn(ids.subList(from, Math.min(from + 1000, ids.size()))));
+        }
+    }
+
+    // Batches commit as they go, so this runs even when the import stops part way.
+    private void afterImport() {
+        productSearchIndex.rebuildAsync();
+        rowCountCache.refreshAsync();
+        catalogCache.evictAllCategories();
+    }
 }
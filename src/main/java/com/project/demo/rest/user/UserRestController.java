@@ -1,14 +1,30 @@
 package com.project.demo.rest.user;
 
+import com.project.demo.logic.entity.auth.JwtPrincipal;
+import com.project.demo.logic.entity.auth.TokenCache;
+import com.project.demo.logic.entity.auth.TokenRevocationRegistry;
+import com.project.demo.logic.entity.export.ExportDataset;
+import com.project.demo.logic.entity.export.ExportService;
+import com.project.demo.logic.entity.http.ConditionalRequests;
+import com.project.demo.logic.entity.http.CountMode;
+import com.project.demo.logic.entity.http.Fingerprint;
 import com.project.demo.logic.entity.http.GlobalResponseHandler;
+import com.project.demo.logic.entity.http.KeysetCursor;
 import com.project.demo.logic.entity.http.Meta;
+import com.project.demo.logic.entity.http.Pagination;
+import com.project.demo.logic.entity.http.RowCountCache;
 import com.project.demo.logic.entity.user.User;
 import com.project.demo.logic.entity.user.UserRepository;
+import com.project.demo.logic.entity.user.UserSearchIndex;
+import com.project.demo.logic.entity.user.UserSpecifications;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,26 +32,77 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/users")
 public class UserRestController {
+    // Bounds both the index page and the prefix-filter page so one request cannot pull the whole table.
+    private static final int MAX_SEARCH_SIZE = 100;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private RowCountCache rowCountCache;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private ExportService exportService;
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
     public ResponseEntity<?> getAll(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest request) {
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "exact") String count,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        if (after != null) {
+            Optional<Long> lastId = KeysetCursor.decode(after);
+            if (lastId.isEmpty()) {
+                return new GlobalResponseHandler().handleResponse("Invalid cursor", HttpStatus.BAD_REQUEST, request);
+            }
+
+            Slice<User> slice = userRepository.findByIdGreaterThan(lastId.get(), KeysetCursor.pageRequest(size));
+            return listResponse(slice.getContent(), KeysetCursor.meta(slice, User::getId, request), webRequest);
+        }
+
+        Optional<CountMode> countMode = CountMode.from(count);
+        if (countMode.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Invalid count mode", HttpStatus.BAD_REQUEST, request);
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        if (countMode.get() != CountMode.EXACT) {
+            Slice<User> slice = userRepository.findAllBy(pageable);
+            Long total = countMode.get() == CountMode.ESTIMATE ? rowCountCache.userCount() : null;
+            return listResponse(slice.getContent(), Pagination.sliceMeta(slice, total, request), webRequest);
+        }
 
-        Pageable pageable = PageRequest.of(page-1, size);
         Page<User> usersPage = userRepository.findAll(pageable);
         Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
         meta.setTotalPages(usersPage.getTotalPages());
@@ -43,6 +110,80 @@ public class UserRestController {
         meta.setPageNumber(usersPage.getNumber() + 1);
         meta.setPageSize(usersPage.getSize());
 
+        return listResponse(usersPage.getContent(), meta, webRequest);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        HttpServletRequest request) {
+        return exportService.export(ExportDataset.USERS, format, request);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<?> search(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String lastname,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request) {
+
+        if (page < 1 || size < 1) {
+            return new GlobalResponseHandler().handleResponse("Invalid page or size", HttpStatus.BAD_REQUEST, request);
+        }
+        size = Math.min(size, MAX_SEARCH_SIZE);
+
+        if (q != null) {
+            if (name != null || lastname != null || email != null) {
+                return new GlobalResponseHandler().handleResponse("Use either q or the prefix filters", HttpStatus.BAD_REQUEST, request);
+            }
+            if (!userSearchIndex.isReady()) {
+                return new GlobalResponseHandler().handleResponse("Search index is still loading", HttpStatus.SERVICE_UNAVAILABLE, request);
+            }
+
+            UserSearchIndex.Hits hits = userSearchIndex.search(q, (long) (page - 1) * size, size);
+            if (hits == null) {
+                return new GlobalResponseHandler().handleResponse("q needs at least " + UserSearchIndex.GRAM_LENGTH + " characters",
+                        HttpStatus.BAD_REQUEST, request);
+            }
+
+            Map<Long, User> rows = userRepository.findAllById(hits.userIds()).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            List<User> users = hits.userIds().stream().map(rows::get).filter(Objects::nonNull).toList();
+
+            Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+            meta.setTotalPages((int) ((hits.total() + size - 1) / size));
+            meta.setTotalElements(hits.total());
+            meta.setPageNumber(page);
+            meta.setPageSize(size);
+
+            return new GlobalResponseHandler().handleResponse("Users retrieved successfully", users, HttpStatus.OK, meta);
+        }
+
+        List<Specification<User>> filters = new ArrayList<>();
+        if (name != null && !name.isBlank()) {
+            filters.add(UserSpecifications.nameStartsWith(name));
+        }
+        if (lastname != null && !lastname.isBlank()) {
+            filters.add(UserSpecifications.lastnameStartsWith(lastname));
+        }
+        if (email != null && !email.isBlank()) {
+            filters.add(UserSpecifications.emailStartsWith(email));
+        }
+        if (filters.isEmpty()) {
+            return new GlobalResponseHandler().handleResponse("Provide q, name, lastname or email", HttpStatus.BAD_REQUEST, request);
+        }
+
+        Page<User> usersPage = userRepository.findAll(Specification.allOf(filters), PageRequest.of(page - 1, size, Sort.by("id")));
+        Meta meta = new Meta(request.getMethod(), request.getRequestURL().toString());
+        meta.setTotalPages(usersPage.getTotalPages());
+        meta.setTotalElements(usersPage.getTotalElements());
+        meta.setPageNumber(usersPage.getNumber() + 1);
+        meta.setPageSize(usersPage.getSize());
+
         return new GlobalResponseHandler().handleResponse("Users retrieved successfully",
                 usersPage.getContent(), HttpStatus.OK, meta);
     }
@@ -52,6 +193,8 @@ public class UserRestController {
     public ResponseEntity<?> addUser(@RequestBody User user, HttpServletRequest request) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
+        rowCountCache.userAdded();
+        userSearchIndex.put(user);
         return new GlobalResponseHandler().handleResponse("User updated successfully",
                 user, HttpStatus.OK, request);
     }
@@ -61,10 +204,36 @@ public class UserRestController {
     public ResponseEntity<?> updateUser(@PathVariable Long userId, @RequestBody User user, HttpServletRequest request) {
         Optional<User> foundOrder = userRepository.findById(userId);
         if(foundOrder.isPresent()) {
-            user.setPassword(passwordEncoder.encode(user.getPassword()));
-            userRepository.save(user);
+            if (ConditionalRequests.preconditionFailed(request, fingerprint(foundOrder.get()))) {
+                return new GlobalResponseHandler().handleResponse("User was modified by another request",
+                        HttpStatus.PRECONDITION_FAILED, request);
+            }
+            // Copy onto the stored row: the body carries no id, so saving it as-is would insert a new user.
+            // Fields missing from the body keep their stored value.
+            User existing = foundOrder.get();
+            String previousEmail = existing.getEmail();
+            if (user.getName() != null) {
+                existing.setName(user.getName());
+            }
+            if (user.getLastname() != null) {
+                existing.setLastname(user.getLastname());
+            }
+            if (user.getEmail() != null) {
+                existing.setEmail(user.getEmail());
+            }
+            if (user.getPassword() != null) {
+                existing.setPassword(passwordEncoder.encode(user.getPassword()));
+            }
+            if (user.getRole() != null) {
+                existing.setRole(user.getRole());
+            }
+            User saved = userRepository.save(existing);
+            userSearchIndex.put(saved);
+            tokenRevocationRegistry.revoke(userId);
+            tokenCache.invalidate(previousEmail);
+            tokenCache.invalidate(saved.getEmail());
             return new GlobalResponseHandler().handleResponse("User updated successfully",
-                    user, HttpStatus.OK, request);
+                    saved, HttpStatus.OK, request);
         } else {
             return new GlobalResponseHandler().handleResponse("User id " + userId + " not found"  ,
                     HttpStatus.NOT_FOUND, request);
@@ -78,6 +247,10 @@ public class UserRestController {
         Optional<User> foundOrder = userRepository.findById(userId);
         if(foundOrder.isPresent()) {
             userRepository.deleteById(userId);
+            userSearchIndex.remove(userId);
+            rowCountCache.userRemoved();
+            tokenRevocationRegistry.revoke(userId);
+            tokenCache.invalidate(foundOrder.get().getEmail());
             return new GlobalResponseHandler().handleResponse("User deleted successfully",
                     foundOrder.get(), HttpStatus.OK, request);
         } else {
@@ -88,9 +261,28 @@ public class UserRestController {
 
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public User authenticatedUser() {
+    public User authenticatedUser(WebRequest webRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return (User) authentication.getPrincipal();
+        User user = authentication.getPrincipal() instanceof JwtPrincipal principal
+                ? userRepository.findById(principal.getId()).orElseThrow()
+                : (User) authentication.getPrincipal();
+        if (ConditionalRequests.notModified(webRequest, fingerprint(user))) {
+            return null;
+        }
+        return user;
+    }
+
+    private ResponseEntity<?> listResponse(List<User> rows, Meta meta, WebRequest webRequest) {
+        Fingerprint fingerprint = new Fingerprint().add(meta.getTotalElements(), meta.getHasNext(), meta.getNextCursor());
+        rows.forEach(row -> fingerprint.add(row.getId(), row.getUpdatedAt()));
+        if (ConditionalRequests.listNotModified(webRequest, fingerprint)) {
+            return null;
+        }
+        return new GlobalResponseHandler().handleResponse("Users retrieved successfully", rows, HttpStatus.OK, meta);
+    }
+
+    private Fingerprint fingerprint(User user) {
+        return new Fingerprint().add("user", user.getId(), user.getUpdatedAt());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.project.demo;
+
+import com.project.demo.logic.entity.product.ProductSearchIndex;
+import com.project.demo.logic.entity.user.UserSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+
+// Hibernate statistics are shared with the startup index rebuilds, so wait for them before counting a request.
+public final class StatementCounter {
+
+	private StatementCounter() {
+	}
+
+	public static Statistics start(ApplicationContext context) {
+		ProductSearchIndex productSearchIndex = context.getBean(ProductSearchIndex.class);
+		UserSearchIndex userSearchIndex = context.getBean(UserSearchIndex.class);
+		await().atMost(Duration.ofSeconds(30)).until(() -> productSearchIndex.isReady() && userSearchIndex.isReady());
+
+		Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+}
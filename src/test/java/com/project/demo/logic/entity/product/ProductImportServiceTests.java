@@ -0,0 +1,88 @@
+package com.project.demo.logic.entity.product;
+
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "products.import.batch-size=2")
+class ProductImportServiceTests {
+
+	@Autowired
+	private ProductImportService productImportService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private Long categoryId;
+
+	@BeforeEach
+	void createCategory() {
+		Category category = new Category();
+		category.setNombre("Importados");
+		categoryId = categoryRepository.save(category).getId();
+	}
+
+	@AfterEach
+	void deleteCatalog() {
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	void rejectedBatchIsReportedAndLaterBatchesStillImport() throws Exception {
+		String json = "[" + row("Uno") + "," + row("Dos") + "," + row("x".repeat(300)) + ","
+				+ row("Cuatro") + "," + row("Cinco") + "]";
+
+		ProductImportResult result = productImportService.importJson(input(json));
+
+		assertEquals(5, result.getReceived());
+		assertEquals(3, result.getImported());
+		assertEquals(2, result.getFailed());
+		assertEquals(List.of(3L, 4L), result.getErrors().stream().map(ProductImportResult.RowError::getRow).toList());
+		assertEquals(3, productRepository.count());
+	}
+
+	@Test
+	void fieldOfTheWrongTypeOnlyFailsItsRow() throws Exception {
+		String json = row("Uno") + "\n{\"categoryId\": " + categoryId + ", \"nombre\": \"Dos\", \"precio\": \"caro\"}\n" + row("Tres");
+
+		ProductImportResult result = productImportService.importJson(input(json));
+
+		assertEquals(3, result.getReceived());
+		assertEquals(2, result.getImported());
+		assertEquals(2L, result.getErrors().get(0).getRow());
+	}
+
+	@Test
+	void csvSkipsLeadingBlankLinesAndHeader() throws Exception {
+		String csv = "\n\ncategoryId,nombre,descripcion,precio,stock\n" + categoryId + ",Uno,,100,1\n\n" + categoryId + ",Dos,,200,2\n";
+
+		ProductImportResult result = productImportService.importCsv(new StringReader(csv));
+
+		assertEquals(2, result.getImported());
+		assertEquals(0, result.getFailed());
+	}
+
+	private String row(String nombre) {
+		return "{\"categoryId\": " + categoryId + ", \"nombre\": \"" + nombre + "\", \"precio\": 100, \"stock\": 1}";
+	}
+
+	private static ByteArrayInputStream input(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
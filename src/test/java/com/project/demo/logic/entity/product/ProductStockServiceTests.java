@@ -0,0 +1,159 @@
+package com.project.demo.logic.entity.product;
+
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ProductStockServiceTests {
+
+	private static final int THREADS = 32;
+
+	@Autowired
+	private ProductStockService productStockService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private Category category;
+
+	@BeforeEach
+	void createCategory() {
+		category = new Category();
+		category.setNombre("Inventario");
+		category = categoryRepository.save(category);
+	}
+
+	@AfterEach
+	void deleteCatalog() {
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentIncrementsAreNotLost() throws Exception {
+		Product product = createProduct(0);
+		int perThread = 50;
+
+		runConcurrently(THREADS * perThread, () -> {
+			productStockService.adjust(product.getId(), StockOperation.INCREMENT, 1);
+			return true;
+		});
+
+		Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+		assertEquals(THREADS * perThread, reloaded.getStock());
+		assertEquals(THREADS * perThread, reloaded.getVersion());
+	}
+
+	@Test
+	void concurrentReservationsNeverOversell() throws Exception {
+		Product product = createProduct(100);
+		AtomicInteger rejected = new AtomicInteger();
+
+		int reserved = runConcurrently(400, () -> {
+			try {
+				productStockService.adjust(product.getId(), StockOperation.RESERVE, 1);
+				return true;
+			} catch (StockAdjustmentException exception) {
+				rejected.incrementAndGet();
+				return false;
+			}
+		});
+
+		assertEquals(100, reserved);
+		assertEquals(300, rejected.get());
+		assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+	}
+
+	@Test
+	void decrementBeyondStockIsRejected() {
+		Product product = createProduct(3);
+
+		assertThrows(StockAdjustmentException.class,
+				() -> productStockService.adjust(product.getId(), StockOperation.DECREMENT, 5));
+
+		assertEquals(3, productRepository.findById(product.getId()).orElseThrow().getStock());
+	}
+
+	@Test
+	void batchRollsBackWhenOneLineIsShort() {
+		Product first = createProduct(10);
+		Product second = createProduct(1);
+
+		StockAdjustment takeFirst = adjustment(first.getId(), 5);
+		StockAdjustment takeSecond = adjustment(second.getId(), 2);
+
+		assertThrows(StockAdjustmentException.class,
+				() -> productStockService.adjustAll(List.of(takeFirst, takeSecond)));
+
+		assertEquals(10, productRepository.findById(first.getId()).orElseThrow().getStock());
+		assertEquals(1, productRepository.findById(second.getId()).orElseThrow().getStock());
+	}
+
+	@Test
+	void batchLevelsFollowRequestOrder() {
+		Product first = createProduct(10);
+		Product second = createProduct(10);
+
+		List<StockLevel> levels = productStockService.adjustAll(List.of(adjustment(second.getId(), 3), adjustment(first.getId(), 1)));
+
+		assertEquals(List.of(second.getId(), first.getId()), levels.stream().map(StockLevel::getId).toList());
+		assertEquals(List.of(7, 9), levels.stream().map(StockLevel::getStock).toList());
+	}
+
+	private Product createProduct(int stock) {
+		Product product = new Product();
+		product.setNombre("Producto");
+		product.setPrecio(1000);
+		product.setStock(stock);
+		product.setCategory(category);
+		return productRepository.save(product);
+	}
+
+	private StockAdjustment adjustment(Long productId, int quantity) {
+		StockAdjustment adjustment = new StockAdjustment();
+		adjustment.setProductId(productId);
+		adjustment.setOperation(StockOperation.RESERVE);
+		adjustment.setQuantity(quantity);
+		return adjustment;
+	}
+
+	private int runConcurrently(int tasks, Callable<Boolean> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>(tasks);
+			for (int i = 0; i < tasks; i++) {
+				futures.add(executor.submit(task));
+			}
+
+			int succeeded = 0;
+			for (Future<Boolean> future : futures) {
+				if (future.get()) {
+					succeeded++;
+				}
+			}
+			return succeeded;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.project.demo.logic.entity.rol;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BootstrapSeederTests {
+
+	@Test
+	void pendingSeedingIsOnlyAHealthDetail() {
+		BootstrapSeeder seeder = new BootstrapSeeder(null, null, null, null, null, true);
+
+		Health health = new BootstrapHealthIndicator(seeder).health();
+
+		assertEquals(Status.UP, health.getStatus());
+		assertEquals("in progress", health.getDetails().get("seeding"));
+	}
+
+}
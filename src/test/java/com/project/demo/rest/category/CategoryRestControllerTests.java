@@ -0,0 +1,141 @@
+package com.project.demo.rest.category;
+
+import com.project.demo.StatementCounter;
+import com.project.demo.logic.entity.cache.CatalogCache;
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CategoryRestControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private CatalogCache catalogCache;
+
+	@BeforeEach
+	void createCategories() {
+		for (int c = 0; c < 20; c++) {
+			Category category = new Category();
+			category.setNombre("Categoria " + c);
+			category.setDescripcion("Descripcion larga de la categoria " + c + " para superar el umbral de compresion");
+			categoryRepository.save(category);
+		}
+		catalogCache.evictResponses();
+	}
+
+	@AfterEach
+	void deleteCategories() {
+		categoryRepository.deleteAll();
+		catalogCache.evictResponses();
+	}
+
+	@Test
+	void repeatedListingIsServedWithoutQueries() throws Exception {
+		String body = mockMvc.perform(get("/categories"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		Statistics statistics = StatementCounter.start(applicationContext);
+
+		mockMvc.perform(get("/categories"))
+				.andExpect(status().isOk())
+				.andExpect(content().json(body, true));
+
+		assertEquals(0, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	@WithMockUser(roles = "SUPER_ADMIN")
+	void tagReadWithoutMetaIsAcceptedByIfMatch() throws Exception {
+		Long id = categoryRepository.findAll().get(0).getId();
+		String etag = mockMvc.perform(get("/categories/" + id).param("meta", "false"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(put("/categories/" + id)
+						.header(HttpHeaders.IF_MATCH, etag)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"nombre\": \"Renombrada\"}"))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(put("/categories/" + id)
+						.header(HttpHeaders.IF_MATCH, etag)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"nombre\": \"Otra\"}"))
+				.andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	@WithMockUser(roles = "SUPER_ADMIN")
+	void updateInvalidatesCachedListing() throws Exception {
+		Long id = categoryRepository.findAll().get(0).getId();
+
+		mockMvc.perform(get("/categories").param("size", "1"))
+				.andExpect(jsonPath("$.data[0].nombre").value("Categoria 0"));
+
+		mockMvc.perform(put("/categories/" + id)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"nombre\": \"Renombrada\"}"))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(get("/categories").param("size", "1"))
+				.andExpect(jsonPath("$.data[0].nombre").value("Renombrada"));
+	}
+
+	@Test
+	void unsupportedProductFormatIsRejected() throws Exception {
+		Long id = categoryRepository.findAll().get(0).getId();
+
+		mockMvc.perform(get("/categories/" + id + "/products").param("format", "csv"))
+				.andExpect(status().isBadRequest());
+
+		mockMvc.perform(get("/categories/" + id + "/products").param("format", "json"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void largeListingIsSentPrecompressed() throws Exception {
+		mockMvc.perform(get("/categories").param("size", "20").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+		mockMvc.perform(get("/categories").param("size", "20").header(HttpHeaders.ACCEPT_ENCODING, "deflate"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "deflate"));
+
+		mockMvc.perform(get("/categories").param("size", "20"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.length()").value(20));
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.project.demo.rest.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.product.Product;
+import com.project.demo.logic.entity.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductCompressionTests {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@BeforeEach
+	void createCatalog() {
+		Category category = new Category();
+		category.setNombre("Categoria");
+		category = categoryRepository.save(category);
+
+		for (int p = 0; p < 50; p++) {
+			Product product = new Product();
+			product.setNombre("Producto " + p);
+			product.setDescripcion("Descripcion del producto " + p + " para superar el umbral de compresion");
+			product.setPrecio(1000 + p);
+			product.setStock(p);
+			product.setCategory(category);
+			productRepository.save(product);
+		}
+	}
+
+	@AfterEach
+	void deleteCatalog() {
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	void largeListingWithETagIsCompressed() throws Exception {
+		HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri("/products?size=50"))
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + login())
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+				.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+		assertEquals(200, response.statusCode());
+		assertTrue(response.headers().firstValue(HttpHeaders.ETAG).isPresent());
+		assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+	}
+
+	private String login() throws Exception {
+		HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/auth/login"))
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.POST(HttpRequest.BodyPublishers.ofString("{\"email\": \"super.admin@gmail.com\", \"password\": \"superadmin123\"}"))
+				.build(), HttpResponse.BodyHandlers.ofString());
+		return objectMapper.readTree(response.body()).get("token").asText();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.project.demo.rest.product;
+
+import com.project.demo.StatementCounter;
+import com.project.demo.logic.entity.category.Category;
+import com.project.demo.logic.entity.category.CategoryRepository;
+import com.project.demo.logic.entity.product.Product;
+import com.project.demo.logic.entity.product.ProductRepository;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ProductRestControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@BeforeEach
+	void createCatalog() {
+		for (int c = 0; c < 6; c++) {
+			Category category = new Category();
+			category.setNombre("Categoria " + c);
+			category = categoryRepository.save(category);
+
+			for (int p = 0; p < 5; p++) {
+				Product product = new Product();
+				product.setNombre("Producto " + c + "-" + p);
+				product.setPrecio(1000 + p);
+				product.setStock(p);
+				product.setCategory(category);
+				productRepository.save(product);
+			}
+		}
+	}
+
+	@AfterEach
+	void deleteCatalog() {
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	void listingStatementCountDoesNotGrowWithPageSize() throws Exception {
+		assertEquals(statementsForPage(5), statementsForPage(30));
+		assertEquals(2, statementsForPage(30));
+	}
+
+	@Test
+	void listingWithoutCountOmitsTotals() throws Exception {
+		mockMvc.perform(get("/products").param("count", "none"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.meta.hasNext").value(true))
+				.andExpect(jsonPath("$.meta.totalElements").doesNotExist())
+				.andExpect(jsonPath("$.meta.totalPages").doesNotExist());
+	}
+
+	@Test
+	@WithMockUser(roles = "SUPER_ADMIN")
+	void bulkPatchRejectsNegativeAmounts() throws Exception {
+		Product product = productRepository.findAll().get(0);
+
+		mockMvc.perform(patch("/products")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[{\"id\": " + product.getId() + ", \"stock\": -1}]"))
+				.andExpect(status().isBadRequest());
+
+		assertEquals(product.getStock(), productRepository.findById(product.getId()).get().getStock());
+	}
+
+	@Test
+	void unchangedListingAnswersNotModified() throws Exception {
+		String etag = mockMvc.perform(get("/products"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		productRepository.delete(productRepository.findAll().get(0));
+
+		mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void sparseListingAnswersNotModified() throws Exception {
+		String etag = mockMvc.perform(get("/products").param("fields", "id,nombre"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/products").param("fields", "id,nombre").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	private long statementsForPage(int size) throws Exception {
+		Statistics statistics = StatementCounter.start(applicationContext);
+
+		mockMvc.perform(get("/products").param("size", String.valueOf(size)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.length()").value(size))
+				.andExpect(jsonPath("$.data[0].category.nombre").isNotEmpty());
+
+		return statistics.getPrepareStatementCount();
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.project.demo.rest.user;
+
+import com.project.demo.logic.entity.rol.RoleEnum;
+import com.project.demo.logic.entity.rol.RoleRepository;
+import com.project.demo.logic.entity.user.User;
+import com.project.demo.logic.entity.user.UserRepository;
+import com.project.demo.logic.entity.user.UserSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "SUPER_ADMIN")
+class UserRestControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserSearchIndex userSearchIndex;
+
+	private User user;
+
+	@BeforeEach
+	void createUser() {
+		await().atMost(Duration.ofSeconds(30)).until(userSearchIndex::isReady);
+
+		user = new User();
+		user.setName("Mariela");
+		user.setLastname("Quesada");
+		user.setEmail("mariela.quesada@example.com");
+		user.setPassword("secreto123");
+		user.setRole(roleRepository.findByName(RoleEnum.USER).orElseThrow());
+		user = userRepository.save(user);
+		userSearchIndex.put(user);
+	}
+
+	@AfterEach
+	void deleteUser() {
+		userRepository.findByEmail("mariela.quesada@example.com").ifPresent(userRepository::delete);
+		userRepository.findByEmail("mariela.rojas@example.com").ifPresent(userRepository::delete);
+		userSearchIndex.remove(user.getId());
+	}
+
+	@Test
+	void updateEditsTheUserAndReindexesIt() throws Exception {
+		long users = userRepository.count();
+
+		mockMvc.perform(put("/users/" + user.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"Mariela\", \"lastname\": \"Rojas\", \"email\": \"mariela.rojas@example.com\", \"password\": \"secreto123\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.id").value(user.getId()));
+
+		assertEquals(users, userRepository.count());
+
+		mockMvc.perform(get("/users/search").param("q", "rojas"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.length()").value(1))
+				.andExpect(jsonPath("$.data[0].id").value(user.getId()));
+
+		mockMvc.perform(get("/users/search").param("q", "quesada"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.length()").value(0));
+	}
+
+	@Test
+	void updateKeepsFieldsMissingFromTheBody() throws Exception {
+		mockMvc.perform(put("/users/" + user.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"lastname\": \"Rojas\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.name").value("Mariela"))
+				.andExpect(jsonPath("$.data.email").value("mariela.quesada@example.com"));
+	}
+
+	@Test
+	void searchCapsHugePages() throws Exception {
+		mockMvc.perform(get("/users/search").param("q", "quesada")
+						.param("page", String.valueOf(Integer.MAX_VALUE))
+						.param("size", String.valueOf(Integer.MAX_VALUE)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.length()").value(0));
+	}
+
+}